@@ -0,0 +1,106 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.benchmark;
+
+import static tech.uom.impl.enums.unit.TemperatureUnit.CELSIUS;
+import static tech.uom.impl.enums.unit.TemperatureUnit.FAHRENHEIT;
+import static tech.uom.impl.enums.unit.TimeUnit.HOUR;
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.uom.impl.enums.quantity.TemperatureQuantity;
+import tech.uom.impl.enums.quantity.TimeQuantity;
+
+/**
+ * Quantity arithmetic with operands in the same and in different units.
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+
+    TimeQuantity minutes;
+    TimeQuantity moreMinutes;
+    TimeQuantity hours;
+    TemperatureQuantity celsius;
+    TemperatureQuantity fahrenheit;
+
+    @Setup
+    public void setUp() {
+        minutes = new TimeQuantity(30d, MINUTE);
+        moreMinutes = new TimeQuantity(15d, MINUTE);
+        hours = new TimeQuantity(2d, HOUR);
+        celsius = new TemperatureQuantity(20d, CELSIUS);
+        fahrenheit = new TemperatureQuantity(50d, FAHRENHEIT);
+    }
+
+    @Benchmark
+    public Quantity<Time> addSameUnit() {
+        return minutes.add(moreMinutes);
+    }
+
+    @Benchmark
+    public Quantity<Time> addOtherUnit() {
+        return minutes.add(hours);
+    }
+
+    @Benchmark
+    public Quantity<Temperature> addOtherTemperatureUnit() {
+        return celsius.add(fahrenheit);
+    }
+
+    @Benchmark
+    public int compareOtherUnit() {
+        return minutes.compareTo(hours);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.benchmark;
+
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+import static tech.uom.impl.enums.unit.TimeUnit.SECOND;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.quantity.QuantityArray;
+import tech.uom.impl.enums.quantity.QuantityBatches;
+
+/**
+ * Sequential versus fork/join conversion and summation of large batches.
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    @Param({ "100000", "10000000" })
+    int size;
+
+    UnitConverter converter;
+    double[] src;
+    double[] dst;
+    QuantityArray<Time> minutes;
+
+    @Setup
+    public void setUp() {
+        converter = MINUTE.getConverterTo(SECOND);
+        src = new double[size];
+        for (int i = 0; i < size; i++) {
+            src[i] = i * 0.5d;
+        }
+        dst = new double[size];
+        minutes = QuantityArray.wrap(src, MINUTE);
+    }
+
+    @Benchmark
+    public double[] convertSequential() {
+        ((AbstractConverter) converter).convert(src, 0, dst, 0, size);
+        return dst;
+    }
+
+    @Benchmark
+    public double[] convertParallel() {
+        QuantityBatches.convertParallel(converter, src, 0, dst, 0, size);
+        return dst;
+    }
+
+    @Benchmark
+    public Quantity<Time> sumParallel() {
+        return QuantityBatches.sumParallel(minutes, SECOND);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the executable benchmark JAR.
+ * <p>
+ * Accepts the regular JMH command line, but unless told otherwise it enables the GC profiler (so <code>gc.alloc.rate.norm</code>, i.e. bytes/op,
+ * is reported next to ops/s) and writes the results as JSON to <code>target/jmh-result.json</code>, so that runs of different builds can be
+ * compared by tools.
+ * </p>
+ * <p>
+ * On Java 17 and later the forked JVMs also get <code>--add-modules jdk.incubator.vector</code>, so the bulk conversions run the vector
+ * kernels of the multi-release implementation JAR. Without forks (<code>-f 0</code>) the module has to be added to this JVM instead.
+ * </p>
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar                         # all benchmarks, GC profiler, JSON result
+ * java -jar target/benchmarks.jar Conversion -rff a.json  # a subset, custom result file
+ * </pre>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Default location of the machine-readable result.
+     */
+    static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    /**
+     * The incubator module of the vector API.
+     */
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private BenchmarkRunner() {
+    }
+
+    private static boolean isJava17OrLater() {
+        final String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 17;
+    }
+
+    public static void main(String... args) throws Exception {
+        final CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp()) {
+            cmd.showHelp();
+            return;
+        }
+        final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd);
+        if (cmd.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!cmd.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (isJava17OrLater()) {
+            final List<String> jvmArgs = new ArrayList<>(cmd.getJvmArgsAppend().orElse(Collections.<String>emptyList()));
+            if (!jvmArgs.contains(VECTOR_MODULE)) {
+                jvmArgs.add("--add-modules");
+                jvmArgs.add(VECTOR_MODULE);
+            }
+            builder.jvmArgsAppend(jvmArgs.toArray(new String[0]));
+        }
+        if (!cmd.getResult().hasValue()) {
+            new File(DEFAULT_RESULT).getAbsoluteFile().getParentFile().mkdirs();
+            builder.result(DEFAULT_RESULT);
+        }
+        final Runner runner = new Runner(builder.build());
+        if (cmd.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.benchmark;
+
+import static tech.uom.impl.enums.unit.TemperatureUnit.CELSIUS;
+import static tech.uom.impl.enums.unit.TemperatureUnit.FAHRENHEIT;
+import static tech.uom.impl.enums.unit.TimeUnit.HOUR;
+import static tech.uom.impl.enums.unit.TimeUnit.MILLISECOND;
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+import static tech.uom.impl.enums.unit.TimeUnit.SECOND;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.AddConverter;
+import tech.uom.impl.enums.function.AffineConverter;
+import tech.uom.impl.enums.function.ConverterCompiler;
+import tech.uom.impl.enums.function.ExpConverter;
+import tech.uom.impl.enums.function.LogConverter;
+import tech.uom.impl.enums.function.MultiplyConverter;
+import tech.uom.impl.enums.function.RationalConverter;
+import tech.uom.impl.enums.quantity.TemperatureQuantity;
+import tech.uom.impl.enums.quantity.TimeQuantity;
+
+/**
+ * Unit conversion hot paths: quantity conversion and raw converter chains.
+ *
+ * @author Werner Keil
+ * @version 1.4, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+    double value;
+    long millis;
+    TimeQuantity minutes;
+    TemperatureQuantity celsius;
+
+    @Setup
+    public void setUp() {
+        value = 42.5d;
+        millis = 1_234_567_000L;
+        minutes = new TimeQuantity(30d, MINUTE);
+        celsius = new TemperatureQuantity(23d, CELSIUS);
+    }
+
+    @Benchmark
+    public Quantity<Time> timeQuantityTo() {
+        return minutes.to(SECOND);
+    }
+
+    @Benchmark
+    public Quantity<Temperature> temperatureQuantityConvert() {
+        return celsius.to(FAHRENHEIT);
+    }
+
+    /**
+     * Reads the value in another unit through <code>to(unit).getValue()</code>, allocating a quantity and a box.
+     */
+    @Benchmark
+    public double timeQuantityToValue() {
+        return minutes.to(SECOND).getValue().doubleValue();
+    }
+
+    /**
+     * Reads the value in another unit directly from the converter table.
+     */
+    @Benchmark
+    public double timeQuantityDoubleValueIn() {
+        return minutes.doubleValueIn(SECOND);
+    }
+
+    @Benchmark
+    public long timeQuantityLongValueIn() {
+        return minutes.longValueIn(SECOND);
+    }
+
+    @Benchmark
+    public double temperatureQuantityDoubleValueIn() {
+        return celsius.doubleValueIn(FAHRENHEIT);
+    }
+
+    /**
+     * Converts through the converter table, reading the factor of the converter.
+     */
+    @Benchmark
+    public double hoursToSecondsConverter() {
+        return HOUR.getConverterTo(SECOND).convert(value);
+    }
+
+    /**
+     * Converts through the constant-specific method, whose literal factor folds into this method.
+     */
+    @Benchmark
+    public double hoursToSecondsEnum() {
+        return HOUR.toSeconds(value);
+    }
+
+    /**
+     * Converts a <code>long</code> count exactly through the rational converter of the unit table.
+     */
+    @Benchmark
+    public long millisToSecondsExact() {
+        return ((RationalConverter) MILLISECOND.getConverterTo(SECOND)).convertExact(millis);
+    }
+
+    /**
+     * Converts a <code>long</code> count through <code>convert(Number)</code>.
+     */
+    @Benchmark
+    public Number millisToSecondsNumber() {
+        return MILLISECOND.getConverterTo(SECOND).convert(millis);
+    }
+
+    @Benchmark
+    public double fahrenheitToKelvinEnum() {
+        return FAHRENHEIT.toKelvin(value);
+    }
+
+    /**
+     * With <code>depth &gt; 1</code> this measures <code>AbstractConverter.Pair.convert</code>.
+     */
+    @Benchmark
+    public double converterChain(Chain chain) {
+        return chain.converter.convert(value);
+    }
+
+    /**
+     * Converts a whole array through the bulk API instead of one value at a time.
+     */
+    @Benchmark
+    public double[] converterChainBulk(Chain chain) {
+        chain.converter.convert(chain.values, 0, chain.converted, 0, Chain.SIZE);
+        return chain.converted;
+    }
+
+    /**
+     * Converts through several different chains at the same call site, as a rule engine evaluating
+     * many conversions does, either walking the chains or running their compiled form.
+     */
+    @Benchmark
+    public double converterMegamorphic(Chains chains) {
+        double sum = 0d;
+        for (UnitConverter cvtr : chains.converters) {
+            sum += cvtr.convert(value);
+        }
+        return sum;
+    }
+
+    /**
+     * Chains mixing affine steps with logarithms, exponentials and opaque converters, so they cannot be folded.
+     */
+    @State(Scope.Thread)
+    public static class Chains {
+        @Param({ "false", "true" })
+        boolean compiled;
+
+        UnitConverter[] converters;
+
+        @Setup
+        public void setUp() {
+            converters = new UnitConverter[] {
+                    new LogConverter(10d).concatenate(new MultiplyConverter(1000d)),
+                    new AffineConverter(1.8d, 32d).concatenate(new LogConverter(Math.E)).concatenate(new AddConverter(1d)),
+                    new ExpConverter(2d).concatenate(new MultiplyConverter(0.5d)).concatenate(new Scale(3d)),
+                    new Scale(2d).concatenate(new Scale(0.25d)).concatenate(new AddConverter(-273.15d)),
+                    new MultiplyConverter(4d).concatenate(new ExpConverter(Math.E)).concatenate(new LogConverter(2d)) };
+            if (compiled) {
+                for (int i = 0; i < converters.length; i++) {
+                    converters[i] = ConverterCompiler.compile(converters[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A chain of <code>depth</code> concatenated converters, either opaque ones kept as linked
+     * <code>Pair</code>s or multiplying converters that are folded into one.
+     */
+    @State(Scope.Thread)
+    public static class Chain {
+        static final int SIZE = 1024;
+
+        @Param({ "1", "2", "8" })
+        int depth;
+
+        @Param({ "false", "true" })
+        boolean fused;
+
+        AbstractConverter converter;
+        double[] values;
+        double[] converted;
+
+        @Setup
+        public void setUp() {
+            AbstractConverter cvtr = step(2d);
+            for (int i = 1; i < depth; i++) {
+                cvtr = cvtr.concatenate(step(i % 2 == 0 ? 2d : 0.5d));
+            }
+            converter = cvtr;
+            values = new double[SIZE];
+            converted = new double[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                values[i] = i * 0.5d;
+            }
+        }
+
+        private AbstractConverter step(double factor) {
+            return fused ? new MultiplyConverter(factor) : new Scale(factor);
+        }
+    }
+
+    /**
+     * A minimal multiplying converter, the smallest building block of a converter chain.
+     */
+    static final class Scale extends AbstractConverter {
+        private final double factor;
+
+        Scale(double factor) {
+            this.factor = factor;
+        }
+
+        @Override
+        public double convert(double value) {
+            return value * factor;
+        }
+
+        @Override
+        protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = src[srcOff + i] * factor;
+            }
+        }
+
+        @Override
+        public AbstractConverter inverse() {
+            return new Scale(1d / factor);
+        }
+
+        @Override
+        public boolean isLinear() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object cvtr) {
+            return (cvtr instanceof Scale) && ((Scale) cvtr).factor == factor;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(factor);
+        }
+    }
+}
@@ -31,16 +31,23 @@ package tech.uom.impl.enums;
 
 import tech.uom.lib.common.function.DoubleFactorSupplier;
 import tech.uom.lib.common.function.QuantityConverter;
+import tech.uom.impl.enums.format.DoubleToDecimal;
+import tech.uom.impl.enums.function.RationalConverter;
 import tech.uom.impl.enums.format.UnitStyle;
+import tech.uom.impl.enums.unit.DimensionlessUnit;
 
 import java.util.Objects;
 
+import javax.measure.IncommensurableException;
 import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Dimensionless;
 
 /**
  * @author Werner Keil
- * @version 2.1, $Date: 2020-12-06 $
+ * @version 2.5, $Date: 2026-10-18 $
  * @since 1.0
  */
 public abstract class AbstractQuantity<Q extends Quantity<Q>> implements 
@@ -101,12 +108,125 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements
      */
     @Override
     public int hashCode() {
-      return Objects.hash(getValue(), getUnit(), getScale());
+        // Same as Objects.hash(getValue(), getUnit(), getScale()), without boxing the value or allocating the varargs array.
+        int hash = 31 + (this instanceof DoubleQuantity ? Double.hashCode(((DoubleQuantity<?>) this).doubleValue())
+                : Objects.hashCode(getValue()));
+        hash = 31 * hash + Objects.hashCode(getUnit());
+        return 31 * hash + Objects.hashCode(getScale());
     }
 
     public abstract String toString(boolean withUnit, boolean withSpace, 
             int precision);
 
+    /**
+     * Returns the value of a quantity stated in the specified unit, as needed for the operands of additions, subtractions and
+     * comparisons.
+     * <ol>
+     * <li>If both units are the same, the value is returned as is at the cost of a reference comparison.</li>
+     * <li>If both units are constants of the same enum, the converter is taken from the precomputed conversion table of the enum.</li>
+     * <li>Otherwise the value is converted by {@link Unit#getConverterToAny(Unit)}.</li>
+     * </ol>
+     *
+     * @param quantity the quantity.
+     * @param unit the unit to state the value in.
+     * @return the value of the quantity in the specified unit.
+     * @throws UnconvertibleException if the units are not compatible.
+     * @since 2.2
+     */
+    protected static <Q extends Quantity<Q>> double valueIn(Quantity<Q> quantity, Unit<Q> unit) {
+        final double value = quantity instanceof DoubleQuantity ? ((DoubleQuantity<Q>) quantity).doubleValue()
+                : quantity.getValue().doubleValue();
+        final Unit<Q> from = quantity.getUnit();
+        if (from == unit) {
+            return value;
+        }
+        if (from instanceof Enum && unit instanceof Enum
+                && ((Enum<?>) from).getDeclaringClass() == ((Enum<?>) unit).getDeclaringClass()) {
+            return from.getConverterTo(unit).convert(value);
+        }
+        try {
+            return from.getConverterToAny(unit).convert(value);
+        } catch (IncommensurableException e) {
+            throw new UnconvertibleException(e);
+        }
+    }
+
+    /**
+     * Returns the value of this quantity stated in the specified unit, like <code>to(unit).getValue().doubleValue()</code>
+     * without creating the intermediate quantity. Units of the same enum are converted by the conversion table of the enum, so
+     * no object is allocated.
+     *
+     * @param unit the unit to state the value in.
+     * @return the value of this quantity in the specified unit.
+     * @throws UnconvertibleException if the units are not compatible.
+     * @since 2.2
+     */
+    public double doubleValueIn(Unit<Q> unit) {
+        return valueIn(this, unit);
+    }
+
+    /**
+     * Returns the value of this quantity stated in the specified unit as <code>long</code>, rounding toward zero like the
+     * conversions of {@link java.util.concurrent.TimeUnit}. Integral values are converted exactly when the conversion table
+     * holds a {@link RationalConverter}; other values, and results outside the range of <code>long</code>, go through
+     * {@link #doubleValueIn(Unit)} and are truncated and saturated like a <code>(long)</code> cast.
+     *
+     * @param unit the unit to state the value in.
+     * @return the value of this quantity in the specified unit, rounded toward zero.
+     * @throws UnconvertibleException if the units are not compatible.
+     * @since 2.2
+     */
+    @SuppressWarnings("unchecked")
+    public long longValueIn(Unit<Q> unit) {
+        final long whole;
+        if (this instanceof DoubleQuantity) {
+            final double value = ((DoubleQuantity<Q>) this).doubleValue();
+            if (value != (long) value || Math.abs(value) >= 0x1p63) {
+                return (long) doubleValueIn(unit);
+            }
+            whole = (long) value;
+        } else {
+            final Number value = getValue();
+            if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+                return (long) doubleValueIn(unit);
+            }
+            whole = value.longValue();
+        }
+        final Unit<Q> from = getUnit();
+        if (from == unit) {
+            return whole;
+        }
+        if (from instanceof Enum && unit instanceof Enum
+                && ((Enum<?>) from).getDeclaringClass() == ((Enum<?>) unit).getDeclaringClass()) {
+            final UnitConverter converter = from.getConverterTo(unit);
+            if (converter instanceof RationalConverter) {
+                try {
+                    return ((RationalConverter) converter).convertExact(whole);
+                } catch (ArithmeticException e) {
+                    // Too large for long, saturated below.
+                }
+            }
+        }
+        return (long) doubleValueIn(unit);
+    }
+
+    /**
+     * Returns the value of a dimensionless factor in {@link DimensionlessUnit#ONE}. Enum units cannot express products of
+     * dimensions, so quantities are only multiplied or divided by dimensionless ones.
+     *
+     * @param factor the factor of a product or quotient.
+     * @return the value of the factor.
+     * @throws UnsupportedOperationException if the factor is not dimensionless.
+     * @since 2.2
+     */
+    @SuppressWarnings("unchecked")
+    protected static double dimensionlessValue(Quantity<?> factor) {
+        if (DimensionlessUnit.ONE.isCompatible(factor.getUnit())) {
+            return valueIn((Quantity<Dimensionless>) factor, DimensionlessUnit.ONE);
+        }
+        throw new UnsupportedOperationException("Product units are not supported: " + factor.getUnit());
+    }
+
     public String toString(boolean withUnit, boolean withSpace) {
         return toString(withUnit, withSpace, 0);
     }
@@ -153,33 +273,47 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements
 
     protected String showInUnit(Unit<?> u, Number s, int precision, 
     		UnitStyle style, boolean withSpace) {
+        return showInUnit(u, s.doubleValue(), precision, style, withSpace);
+    }
+
+    /**
+     * Shows a value in the specified unit, like {@link #showInUnit(Unit, Number, int, UnitStyle, boolean)} without boxing.
+     *
+     * @since 2.2
+     */
+    protected String showInUnit(Unit<?> u, double s, int precision, 
+    		UnitStyle style, boolean withSpace) {
         if (u == null) {
             throw new IllegalArgumentException("Null unit not allowed!");  //$NON-NLS-1$
         }
         double result;
         if (u instanceof DoubleFactorSupplier) {
-            result = s.doubleValue() / ((DoubleFactorSupplier)u).getFactor();
+            result = s / ((DoubleFactorSupplier)u).getFactor();
         } else {
-            result = s.doubleValue();
+            result = s;
         }
 
-        final String str = getStr(Double.valueOf(result), precision);
-        StringBuilder sb;
+        final StringBuilder sb = new StringBuilder(DoubleToDecimal.MAX_CHARS + 8);
+        DoubleToDecimal.appendTo(result, sb);
+        if (withSpace) sb.append(' ');
         switch (style) {
             case NAME:
-                sb = new StringBuilder(str);
-                if (withSpace) sb.append(' ');
                 return sb.append(u.getName()).toString();
-                //return str;
             default:
-                sb = new StringBuilder(str);
-                if (withSpace) sb.append(' ');
                 return sb.append(u.getSymbol()).toString();
         }
     }
     
     protected String showInUnit(Unit<?> u, Double s, int precision, 
     		UnitStyle style) {
+        return showInUnit(u, s.doubleValue(), precision, style, true);
+    }
+
+    /**
+     * @since 2.2
+     */
+    protected String showInUnit(Unit<?> u, double s, int precision, 
+    		UnitStyle style) {
         return showInUnit(u, s, precision, style, true);
     }
 
@@ -199,6 +333,9 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements
 //    		String str = num.toString();
 //    		return str;
 //    	} 
+    	if (val instanceof Double) {
+    		return DoubleToDecimal.toString(val.doubleValue());
+    	}
     	return String.valueOf(val);
     }
 }
@@ -29,14 +29,16 @@
  */
 package tech.uom.impl.enums;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import javax.measure.Dimension;
 import javax.measure.UnitConverter;
 
 import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.ConverterCompiler;
 import tech.uom.impl.enums.unit.SimpleDimension;
 
 /**
@@ -47,67 +49,131 @@ import tech.uom.impl.enums.unit.SimpleDimension;
  *     uncommensurate (not comparable). Modern physics has cast doubt on 
  *     the very existence of incompatible fundamental dimensions of physical quantities.
  *     For example, most physicists do not recognize temperature, 
- *     {@link QuantityDimension#TEMPERATURE Θ}, as a fundamental dimension since it 
+ *     {@code QuantityDimension.TEMPERATURE Θ}, as a fundamental dimension since it 
  *     essentially expresses the energy per particle per degree of freedom, 
  *     which can be expressed in terms of energy (or mass, length, and time).
- *     To support, such model the method {@link #getConverter} may 
+ *     To support, such model the method {@link #getDimensionalTransform} may 
  *     returns a non-null value for distinct dimensions.</p> 
  *     
   * <p> The default model is {@link StandardModel Standard}. Applications may
- *     use one of the predefined model or create their own.
+ *     use one of the predefined model or create their own, either replacing the
+ *     default model or using it only for a scope of the current thread.
  *     [code]
  *     DimensionalModel relativistic = new DimensionalModel() {
- *         public Dimension getFundamentalDimension(QuantityDimension dimension) {
- *             if (dimension.equals(QuantityDimension.LENGTH)) return QuantityDimension.TIME; // Consider length derived from time.
- *                 return super.getDimension(dimension); // Returns product of fundamental dimension.
+ *         public Dimension getFundamentalDimension(Dimension dimension) {
+ *             if (dimension.equals(LENGTH)) return TIME; // Consider length derived from time.
+ *                 return super.getFundamentalDimension(dimension); // Returns product of fundamental dimension.
  *             }
- *             public UnitConverter getDimensionalTransform(QuantityDimension dimension) {
- *                 if (dimension.equals(QuantityDimension.LENGTH)) return new RationalConverter(1, 299792458); // Converter (1/C) from LENGTH SI unit (m) to TIME SI unit (s).
+ *             public UnitConverter getDimensionalTransform(Dimension dimension) {
+ *                 if (dimension.equals(LENGTH)) return new MultiplyConverter(1d / 299792458); // Converter (1/C) from LENGTH SI unit (m) to TIME SI unit (s).
  *                 return super.getDimensionalTransform(dimension);
  *             }
  *     };
- *     LocalContext.enter();
- *     try {
- *         DimensionalModel.setCurrent(relativistic); // Current thread use the relativistic model.
- *         SI.KILOGRAM.getConverterToAny(SI.JOULE); // Allowed.
+ *     DimensionalModel.runWith(relativistic, () -> { // Current thread uses the relativistic model.
  *         ...
- *     } finally {
- *         LocalContext.exit();
- *     }
+ *     });
  *     [/code]</p>
+ *
+ * <p> Models are expected not to change once in use: the fundamental dimension and
+ *     the dimensional transform of each dimension are computed once and cached.</p>
  *     
  * @see <a href="http://en.wikipedia.org/wiki/Dimensional_analysis">Wikipedia: Dimensional Analysis</a>
  * @author  <a href="mailto:units@catmedia.us">Werner Keil</a>
- * @version 0.2, $Date$
+ * @version 0.5, $Date: 2026-10-18 $
  */
 public abstract class DimensionalModel {
 
     /**
-     * Holds the current model.
+     * Holds the default model set by {@link #setCurrent}, used by threads without a scoped model.
+     * <code>null</code> stands for the {@link StandardModel} instance, which is not read here:
+     * <code>StandardModel</code> initializes this class as its superclass, so its instance may
+     * not exist yet while this class is initialized.
+     */
+    private static volatile DimensionalModel defaultModel;
+
+    /**
+     * Holds the model of the current scope, if any.
+     */
+    private static final ThreadLocal<DimensionalModel> SCOPED = new ThreadLocal<DimensionalModel>();
+
+    /**
+     * Holds the fundamental dimensions computed so far.
+     */
+    private final ConcurrentMap<Dimension, Dimension> fundamentalDimensions = new ConcurrentHashMap<Dimension, Dimension>();
+
+    /**
+     * Holds the dimensional transforms computed so far.
      */
-    private static Reference<DimensionalModel> Current = new WeakReference<DimensionalModel>(new StandardModel());
+    private final ConcurrentMap<Dimension, UnitConverter> dimensionalTransforms = new ConcurrentHashMap<Dimension, UnitConverter>();
 
     /**
-     * Returns the physics model used by the current thread
+     * Returns the physics model used by the current thread: the model of the
+     * innermost {@link #runWith scope} if any, otherwise the default model
      * (by default an instance of {@link StandardModel}).
      *
-     * @return the getCurrent physical model.
-     * @see LocalContext
+     * @return the current physical model.
      */
     public static DimensionalModel current() {
-        return DimensionalModel.Current.get();
+        final DimensionalModel scoped = SCOPED.get();
+        if (scoped != null) {
+            return scoped;
+        }
+        final DimensionalModel model = defaultModel;
+        return model != null ? model : StandardModel.getInstance();
     }
 
-//    /**
-//     * Sets the current physics model (local to the current thread when executing
-//     * within a {@link LocalContext}).
-//     *
-//     * @param  model the context-local physics model.
-//     * @see    #getCurrent
-//     */
-//    public static void setCurrent(DimensionalModel model) {
-//        DimensionalModel.Current. .Current set(model);
-//    }
+    /**
+     * Sets the default physics model, used by all threads outside of a {@link #runWith scope}.
+     *
+     * @param  model the default physics model.
+     * @throws NullPointerException if the model is <code>null</code>.
+     * @see    #current
+     */
+    public static void setCurrent(DimensionalModel model) {
+        if (model == null) throw new NullPointerException("model");
+        defaultModel = model;
+    }
+
+    /**
+     * Runs the specified action with the specified model as {@link #current() current} model of the calling thread.
+     * Scopes can be nested, the previous model is restored when the action completes. The model is not inherited
+     * by other threads, which keeps scopes cheap on virtual threads.
+     *
+     * @param  model the model of the scope.
+     * @param  action the action to run.
+     * @throws NullPointerException if the model is <code>null</code>.
+     */
+    public static void runWith(DimensionalModel model, Runnable action) {
+        callWith(model, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Computes a result with the specified model as {@link #current() current} model of the calling thread.
+     *
+     * @param  <T> the type of the result.
+     * @param  model the model of the scope.
+     * @param  action the computation.
+     * @return the result of the computation.
+     * @throws NullPointerException if the model is <code>null</code>.
+     * @see    #runWith(DimensionalModel, Runnable)
+     */
+    public static <T> T callWith(DimensionalModel model, Supplier<T> action) {
+        if (model == null) throw new NullPointerException("model");
+        final DimensionalModel previous = SCOPED.get();
+        SCOPED.set(model);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                SCOPED.remove(); // Leaves no entry behind on pooled threads.
+            } else {
+                SCOPED.set(previous);
+            }
+        }
+    }
 
     /**
      * Default constructor (allows for derivation).
@@ -126,12 +192,22 @@ public abstract class DimensionalModel {
      * @return <code>this</code> or a rational product of fundamental dimension.
      */
     public Dimension getFundamentalDimension(Dimension dimension) {
+        Dimension fundamental = fundamentalDimensions.get(dimension);
+        if (fundamental == null) {
+            // Not computeIfAbsent(), the computation recurses into this map.
+            fundamental = computeFundamentalDimension(dimension);
+            fundamentalDimensions.putIfAbsent(dimension, fundamental);
+        }
+        return fundamental;
+    }
+
+    private Dimension computeFundamentalDimension(Dimension dimension) {
         Map<? extends Dimension, Integer> dimensions = dimension.getBaseDimensions();
-        if (dimensions == null) return dimension; // Fundamental dimension.
+        if (isFundamental(dimension, dimensions)) return dimension;
         // Dimensional Product.
         Dimension fundamentalProduct = SimpleDimension.INSTANCE;
         for (Map.Entry<? extends Dimension, Integer> e : dimensions.entrySet()) {
-             fundamentalProduct = fundamentalProduct.multiply(this.getFundamentalDimension(e.getKey())).pow(e.getValue());
+             fundamentalProduct = fundamentalProduct.multiply(this.getFundamentalDimension(e.getKey()).pow(e.getValue()));
         }
         return fundamentalProduct;
     }
@@ -148,8 +224,18 @@ public abstract class DimensionalModel {
      * @return the dimensional transform (identity for fundamental dimensions).
      */
     public UnitConverter getDimensionalTransform(Dimension dimension) {
+        UnitConverter transform = dimensionalTransforms.get(dimension);
+        if (transform == null) {
+            // Stored compiled, so the memoized chain converts through a single call.
+            transform = ConverterCompiler.compile(computeDimensionalTransform(dimension));
+            dimensionalTransforms.putIfAbsent(dimension, transform);
+        }
+        return transform;
+    }
+
+    private UnitConverter computeDimensionalTransform(Dimension dimension) {
         Map<? extends Dimension, Integer> dimensions = dimension.getBaseDimensions();
-        if (dimensions == null) return AbstractConverter.IDENTITY; // Fundamental dimension.
+        if (isFundamental(dimension, dimensions)) return AbstractConverter.IDENTITY;
         // Dimensional Product.
         UnitConverter toFundamental = AbstractConverter.IDENTITY;
         for (Map.Entry<? extends Dimension, Integer> e : dimensions.entrySet()) {
@@ -168,4 +254,14 @@ public abstract class DimensionalModel {
         return toFundamental;
     }
 
+    /**
+     * Indicates if a dimension is fundamental, having no base dimensions or only itself.
+     */
+    private static boolean isFundamental(Dimension dimension, Map<? extends Dimension, Integer> dimensions) {
+        if (dimensions == null) return true;
+        if (dimensions.size() != 1) return false;
+        final Integer pow = dimensions.get(dimension);
+        return pow != null && pow.intValue() == 1;
+    }
+
 }
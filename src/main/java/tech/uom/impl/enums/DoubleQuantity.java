@@ -0,0 +1,89 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums;
+
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * A quantity whose value is read and computed as primitive <code>double</code>, without the <code>Number</code> boxes of
+ * {@link #getValue()} and {@link #multiply(Number)}.
+ * </p>
+ * <p>
+ * A chain such as <code>q.times(2).plus(1).doubleValue(unit)</code> only allocates the intermediate quantities, which escape
+ * analysis removes far more reliably than boxes passed through <code>Number</code> typed interfaces.
+ * </p>
+ *
+ * @param <Q>
+ *            the type of the quantity.
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public interface DoubleQuantity<Q extends Quantity<Q>> extends Quantity<Q> {
+
+	/**
+	 * Returns the value of this quantity in its unit.
+	 *
+	 * @return the value, like <code>getValue().doubleValue()</code>.
+	 */
+	double doubleValue();
+
+	/**
+	 * Returns the value of this quantity in the specified unit.
+	 *
+	 * @param unit
+	 *            the unit to state the value in.
+	 * @return the value, like <code>to(unit).getValue().doubleValue()</code>.
+	 * @throws UnconvertibleException
+	 *             if the units are not compatible.
+	 */
+	double doubleValue(Unit<Q> unit);
+
+	/**
+	 * Returns this quantity plus an amount in its unit.
+	 *
+	 * @param amount
+	 *            the amount to add, in the unit of this quantity.
+	 * @return <code>this + amount</code>, in the unit of this quantity.
+	 */
+	DoubleQuantity<Q> plus(double amount);
+
+	/**
+	 * Returns this quantity multiplied by a factor.
+	 *
+	 * @param factor
+	 *            the factor.
+	 * @return <code>this * factor</code>, in the unit of this quantity.
+	 */
+	DoubleQuantity<Q> times(double factor);
+}
@@ -29,18 +29,17 @@
  */
 package tech.uom.impl.enums;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javax.measure.Quantity;
 import javax.measure.Unit;
 
+import tech.uom.impl.enums.unit.Units;
+
 /**
  * This class represents the standard model. 
  *
  * @author  <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author  <a href="mailto:units@catmedia.us">Werner Keil</a>
- * @version 0.5.1, December 20, 2014
+ * @version 0.6, October 18, 2026
  */
 public class StandardModel extends DimensionalModel {
 
@@ -61,13 +60,15 @@ public class StandardModel extends DimensionalModel {
         return INSTANCE;
     }
 
-    @SuppressWarnings("rawtypes")
-	protected final Map<Class<? extends Quantity>, Unit>
-            quantityToUnit = new HashMap<Class<? extends Quantity>, Unit>(); // Diamond (Java 7+)
-    
-    @SuppressWarnings("unchecked")
+    /**
+     * Returns the system unit of the specified quantity type, as registered in {@link Units}.
+     *
+     * @param <Q> the compile-time quantity type.
+     * @param quantityType the quantity type.
+     * @return the system unit or <code>null</code> if the quantity type is not supported.
+     */
     public <Q extends Quantity<Q>> Unit<Q> getUnit(Class<Q> quantityType) {
-        return quantityToUnit.get(quantityType);
+        return Units.getInstance().getUnit(quantityType);
     }
 	
 }
\ No newline at end of file
@@ -47,7 +47,7 @@ import tech.uom.lib.common.function.Parser;
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 1.1, $Date: 2019-03-11 $
+ * @version 1.2, $Date: 2026-10-18 $
  * @since 2.0
  * 
  */
@@ -119,6 +119,42 @@ public abstract class AbstractQuantityFormat extends Format implements QuantityF
    */
   abstract Quantity<?> parse(CharSequence csq, int index) throws IllegalArgumentException, MeasurementParseException;
 
+  /**
+   * Parses a portion of the specified <code>CharSequence</code> like {@link #parse(CharSequence, ParsePosition)}, but reports a failure through
+   * the specified result instead of throwing. On failure the index of the <code>cursor</code> is unchanged, its error index and the result are set
+   * and <code>null</code> is returned; on success the result is reset.
+   * <p>
+   * This implementation catches the exceptions of {@link #parse(CharSequence, ParsePosition)}, subclasses should override it to avoid them.
+   * </p>
+   *
+   * @param csq
+   *          the <code>CharSequence</code> to parse.
+   * @param cursor
+   *          the cursor holding the current parsing index.
+   * @param result
+   *          the status to update.
+   * @return the quantity parsed from the specified character sub-sequence, or <code>null</code>.
+   * @since 2.2
+   */
+  public Quantity<?> tryParse(CharSequence csq, ParsePosition cursor, ParseResult result) {
+    final int start = cursor.getIndex();
+    try {
+      final Quantity<?> quantity = parse(csq, cursor);
+      result.reset();
+      return quantity;
+    } catch (MeasurementParseException e) {
+      cursor.setIndex(start);
+      cursor.setErrorIndex(e.getPosition());
+      result.fail(ParseResult.Reason.UNEXPECTED_CHARACTER, e.getPosition());
+      return null;
+    } catch (IllegalArgumentException e) {
+      cursor.setIndex(start);
+      cursor.setErrorIndex(start);
+      result.fail(ParseResult.Reason.UNEXPECTED_CHARACTER, start);
+      return null;
+    }
+  }
+
   @Override
   public final StringBuffer format(Object obj, final StringBuffer toAppendTo, FieldPosition pos) {
     if (!(obj instanceof Quantity<?>))
@@ -130,11 +166,7 @@ public abstract class AbstractQuantityFormat extends Format implements QuantityF
 
   @Override
   public final Quantity<?> parseObject(String source, ParsePosition pos) {
-    try {
-      return parse(source, pos);
-    } catch (IllegalArgumentException | MeasurementParseException e) {
-      return null;
-    }
+    return tryParse(source, pos, new ParseResult());
   }
 
   /**
@@ -30,6 +30,8 @@
 package tech.uom.impl.enums.format;
 
 import java.io.IOException;
+import java.text.ParsePosition;
+
 import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 import javax.measure.format.UnitFormat;
@@ -150,7 +152,12 @@ abstract class AbstractUnitFormat implements UnitFormat {
 	 */
 	public final Unit<?> parse(CharSequence csq)
 			throws IllegalArgumentException {
-		return parse(csq);
+		final ParsePosition pos = new ParsePosition(0);
+		final Unit<?> unit = parse(csq, pos);
+		if (pos.getIndex() < csq.length()) {
+			throw ParseResult.exception(ParseResult.Reason.UNEXPECTED_CHARACTER, csq, pos.getIndex());
+		}
+		return unit;
 	}
 	
 	public final StringBuffer format(Object obj, final StringBuffer toAppendTo) {
@@ -168,7 +175,7 @@ abstract class AbstractUnitFormat implements UnitFormat {
 	public final Unit<?> parseObject(String source) {
 		try {
 			return parse(source);
-		} catch (IllegalArgumentException e) {
+		} catch (IllegalArgumentException | MeasurementParseException e) {
 			return null; // Unfortunately the message why the parsing failed
 		} // is lost; but we have to follow the Format spec.
 
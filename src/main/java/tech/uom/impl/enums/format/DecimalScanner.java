@@ -0,0 +1,288 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+
+/**
+ * <p>
+ * Reads decimal numbers straight from a <code>CharSequence</code> at a parse position, without creating substrings.
+ * </p>
+ * <p>
+ * The syntax is the one of {@link Double#parseDouble(String)} without hexadecimal notation and type suffixes: an optional sign,
+ * digits with an optional decimal point, an optional exponent, or <code>NaN</code> and <code>Infinity</code>. Reading stops at the
+ * first character that cannot continue the number, so <code>"5km"</code> yields <code>5</code>.
+ * </p>
+ * <p>
+ * Values with at most 18 significant digits are converted exactly rounded without allocation if both the digits and the power of
+ * ten are exactly representable as <code>double</code>: a single multiplication or division is then correctly rounded (Clinger's
+ * fast path). All other values fall back to {@link Double#parseDouble(String)}.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.2, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class DecimalScanner {
+
+	/**
+	 * The largest integer all smaller integers of which are exactly representable as <code>double</code>.
+	 */
+	private static final long MAX_EXACT = 1L << 53;
+
+	/**
+	 * The number of digits accumulated before the remaining ones are only counted, the most that cannot overflow
+	 * <code>long</code>.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * Exponents beyond this bound are saturated, they overflow or underflow any <code>double</code>.
+	 */
+	private static final int MAX_EXPONENT = 99999;
+
+	/**
+	 * The powers of ten exactly representable as <code>double</code>.
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private DecimalScanner() {
+	}
+
+	/**
+	 * Parses a <code>double</code> starting at the index of the specified position. On success the index is set after the last
+	 * character of the number. On failure the index is left unchanged, the error index is set and <code>0</code> is returned.
+	 *
+	 * @param csq
+	 *            the characters to parse.
+	 * @param pos
+	 *            the parse position.
+	 * @return the value, exactly rounded.
+	 */
+	static double parseDouble(CharSequence csq, ParsePosition pos) {
+		final int start = pos.getIndex();
+		final int length = csq.length();
+		int i = start;
+		boolean negative = false;
+		if (i < length && (csq.charAt(i) == '-' || csq.charAt(i) == '+')) {
+			negative = csq.charAt(i) == '-';
+			i++;
+		}
+		if (matches(csq, i, "NaN")) {
+			pos.setIndex(i + 3);
+			return Double.NaN;
+		}
+		if (matches(csq, i, "Infinity")) {
+			pos.setIndex(i + 8);
+			return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		}
+		long mantissa = 0;
+		int digits = 0; // significant digits in mantissa
+		int exponent = 0; // decimal exponent of the last digit in mantissa
+		boolean truncated = false;
+		boolean seenDigit = false;
+		boolean fraction = false;
+		for (; i < length; i++) {
+			final char c = csq.charAt(i);
+			if (c >= '0' && c <= '9') {
+				seenDigit = true;
+				if (digits < MAX_DIGITS) {
+					if (mantissa != 0 || c != '0') {
+						mantissa = mantissa * 10 + (c - '0');
+						digits++;
+					}
+					if (fraction) {
+						exponent--;
+					}
+				} else {
+					truncated |= c != '0';
+					if (!fraction) {
+						exponent++;
+					}
+				}
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else {
+				break;
+			}
+		}
+		if (!seenDigit) {
+			pos.setErrorIndex(start);
+			return 0d;
+		}
+		if (i < length && (csq.charAt(i) == 'e' || csq.charAt(i) == 'E')) {
+			int j = i + 1;
+			boolean negativeExponent = false;
+			if (j < length && (csq.charAt(j) == '-' || csq.charAt(j) == '+')) {
+				negativeExponent = csq.charAt(j) == '-';
+				j++;
+			}
+			final int firstDigit = j;
+			int value = 0;
+			for (; j < length && csq.charAt(j) >= '0' && csq.charAt(j) <= '9'; j++) {
+				value = Math.min(value * 10 + (csq.charAt(j) - '0'), MAX_EXPONENT);
+			}
+			if (j > firstDigit) {
+				// Otherwise the 'e' is not part of the number
+				i = j;
+				exponent = saturate(exponent + (negativeExponent ? -value : value));
+			}
+		}
+		pos.setIndex(i);
+		if (!truncated) {
+			if (mantissa == 0) {
+				return negative ? -0d : 0d;
+			}
+			if (mantissa <= MAX_EXACT) {
+				double value = Double.NaN;
+				if (exponent >= 0 && exponent <= 22) {
+					value = mantissa * POWERS_OF_TEN[exponent];
+				} else if (exponent < 0 && exponent >= -22) {
+					value = mantissa / POWERS_OF_TEN[-exponent];
+				} else if (exponent > 22 && exponent <= 22 + 15) {
+					// Move the surplus power of ten into the mantissa if it stays exact
+					final long scale = (long) POWERS_OF_TEN[exponent - 22];
+					if (mantissa <= MAX_EXACT / scale) {
+						value = (mantissa * scale) * 1e22;
+					}
+				}
+				if (value == value) {
+					return negative ? -value : value;
+				}
+			}
+		}
+		return Double.parseDouble(csq.subSequence(start, i).toString());
+	}
+
+	/**
+	 * Parses a <code>BigDecimal</code> starting at the index of the specified position, with the same syntax and position handling
+	 * as {@link #parseDouble(CharSequence, ParsePosition)} except that <code>NaN</code> and <code>Infinity</code> are rejected.
+	 * Numbers whose exponent or scale exceeds the range of <code>int</code> are rejected as well, the error index is then the one of
+	 * the exponent.
+	 *
+	 * @param csq
+	 *            the characters to parse.
+	 * @param pos
+	 *            the parse position.
+	 * @return the exact value or <code>null</code> on failure.
+	 */
+	static BigDecimal parseDecimal(CharSequence csq, ParsePosition pos) {
+		final int start = pos.getIndex();
+		final int length = csq.length();
+		int i = start;
+		if (i < length && (csq.charAt(i) == '-' || csq.charAt(i) == '+')) {
+			i++;
+		}
+		boolean seenDigit = false;
+		boolean fraction = false;
+		int fractionDigits = 0;
+		for (; i < length; i++) {
+			final char c = csq.charAt(i);
+			if (c >= '0' && c <= '9') {
+				seenDigit = true;
+				if (fraction) {
+					fractionDigits++;
+				}
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else {
+				break;
+			}
+		}
+		if (!seenDigit) {
+			pos.setErrorIndex(start);
+			return null;
+		}
+		final int end = scanExponent(csq, i, length);
+		if (end > i && !isScaleInRange(csq, i + 1, end, fractionDigits)) {
+			pos.setErrorIndex(i);
+			return null;
+		}
+		pos.setIndex(end);
+		return new BigDecimal(csq.subSequence(start, end).toString());
+	}
+
+	/**
+	 * Indicates if the exponent between <code>from</code> and <code>to</code> and the resulting scale fit in an <code>int</code>, as
+	 * required by {@link BigDecimal#BigDecimal(String)}.
+	 */
+	private static boolean isScaleInRange(CharSequence csq, int from, int to, int fractionDigits) {
+		boolean negative = false;
+		if (csq.charAt(from) == '-' || csq.charAt(from) == '+') {
+			negative = csq.charAt(from) == '-';
+			from++;
+		}
+		long value = 0;
+		for (int j = from; j < to; j++) {
+			value = Math.min(value * 10 + (csq.charAt(j) - '0'), 1L << 40);
+		}
+		final long exponent = negative ? -value : value;
+		final long scale = fractionDigits - exponent;
+		return exponent == (int) exponent && scale == (int) scale;
+	}
+
+	/**
+	 * Returns the index after the exponent starting at <code>i</code>, or <code>i</code> if there is no well formed exponent.
+	 */
+	private static int scanExponent(CharSequence csq, int i, int length) {
+		if (i < length && (csq.charAt(i) == 'e' || csq.charAt(i) == 'E')) {
+			int j = i + 1;
+			if (j < length && (csq.charAt(j) == '-' || csq.charAt(j) == '+')) {
+				j++;
+			}
+			final int firstDigit = j;
+			while (j < length && csq.charAt(j) >= '0' && csq.charAt(j) <= '9') {
+				j++;
+			}
+			if (j > firstDigit) {
+				return j;
+			}
+		}
+		return i;
+	}
+
+	private static int saturate(int exponent) {
+		return Math.max(-MAX_EXPONENT, Math.min(MAX_EXPONENT, exponent));
+	}
+
+	private static boolean matches(CharSequence csq, int index, String word) {
+		if (csq.length() - index < word.length()) {
+			return false;
+		}
+		for (int i = 0; i < word.length(); i++) {
+			if (csq.charAt(index + i) != word.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,375 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * Writes the shortest decimal representation of a <code>double</code> that reads back to the same value, directly into a
+ * <code>char[]</code>, a <code>StringBuilder</code> or any <code>Appendable</code>, without intermediate Strings or boxing.
+ * </p>
+ * <p>
+ * The layout is the one of {@link Double#toString(double)}: plain notation like <code>12.5</code> for magnitudes in
+ * [10<sup>-3</sup>, 10<sup>7</sup>), computerized scientific notation like <code>1.0E-5</code> otherwise. The digits are computed
+ * with Raffaello Giulietti's Schubfach algorithm, the one used by <code>Double.toString</code> since Java 19. Earlier Java versions
+ * sometimes produce more digits than needed, so results are identical to theirs only when those are the shortest.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ * @see <a href="https://drive.google.com/file/d/1IEeATSVnEE6TkrHlCYNY2GjaraBjOT4f">R. Giulietti, The Schubfach way to render
+ *      doubles</a>
+ */
+public final class DoubleToDecimal {
+
+	/**
+	 * The maximum number of characters written for a single value, as in <code>-2.2250738585072014E-308</code>.
+	 */
+	public static final int MAX_CHARS = 24;
+
+	/** The precision in bits */
+	private static final int P = 53;
+
+	/** The minimum exponent of the least significant bit */
+	private static final int Q_MIN = -1074;
+
+	/** The smallest normal significand */
+	private static final long C_MIN = 1L << (P - 1);
+
+	/** Subnormal significands below this value need one more digit to be recovered */
+	private static final long C_TINY = 3;
+
+	/** The maximum number of significant digits */
+	private static final int H = 17;
+
+	private static final int BQ_MASK = 0x7FF;
+	private static final long T_MASK = (1L << (P - 1)) - 1;
+	private static final long MASK_63 = (1L << 63) - 1;
+
+	/** The range of decimal exponents k for which g(k) is tabulated */
+	private static final int K_MIN = -324;
+	private static final int K_MAX = 292;
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L,
+			1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+			10000000000000000L, 100000000000000000L };
+
+	private DoubleToDecimal() {
+	}
+
+	/**
+	 * Writes the decimal representation of <code>v</code> into <code>chars</code>.
+	 *
+	 * @param v
+	 *            the value to write.
+	 * @param chars
+	 *            the destination, with at least {@link #MAX_CHARS} characters from <code>offset</code> on.
+	 * @param offset
+	 *            the index of the first character written.
+	 * @return the index after the last character written.
+	 */
+	public static int toChars(double v, char[] chars, int offset) {
+		final long bits = Double.doubleToRawLongBits(v);
+		final long t = bits & T_MASK;
+		final int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+		if (bq < BQ_MASK) {
+			int pos = offset;
+			if (bits < 0) {
+				chars[pos++] = '-';
+			}
+			if (bq != 0) {
+				// normal value, v = c 2^q
+				final int mq = -Q_MIN + 1 - bq;
+				final long c = C_MIN | t;
+				if (0 < mq && mq < P) {
+					// fast path for integers below 2^53
+					final long f = c >> mq;
+					if (f << mq == c) {
+						return layout(f, 0, chars, pos);
+					}
+				}
+				return toDecimal(-mq, c, 0, chars, pos);
+			}
+			if (t != 0) {
+				// subnormal value
+				return t < C_TINY ? toDecimal(Q_MIN, 10 * t, -1, chars, pos) : toDecimal(Q_MIN, t, 0, chars, pos);
+			}
+			chars[pos++] = '0';
+			chars[pos++] = '.';
+			chars[pos++] = '0';
+			return pos;
+		}
+		return copy(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity", chars, offset);
+	}
+
+	/**
+	 * Appends the decimal representation of <code>v</code> to a <code>StringBuilder</code>.
+	 *
+	 * @param v
+	 *            the value to append.
+	 * @param sb
+	 *            the destination.
+	 * @return the specified <code>StringBuilder</code>.
+	 */
+	public static StringBuilder appendTo(double v, StringBuilder sb) {
+		final char[] chars = new char[MAX_CHARS];
+		return sb.append(chars, 0, toChars(v, chars, 0));
+	}
+
+	/**
+	 * Appends the decimal representation of <code>v</code> to an <code>Appendable</code>.
+	 *
+	 * @param <A>
+	 *            the type of the destination.
+	 * @param v
+	 *            the value to append.
+	 * @param appendable
+	 *            the destination.
+	 * @return the specified <code>Appendable</code>.
+	 * @throws IOException
+	 *             if an I/O exception occurs.
+	 */
+	public static <A extends Appendable> A appendTo(double v, A appendable) throws IOException {
+		if (appendable instanceof StringBuilder) {
+			appendTo(v, (StringBuilder) appendable);
+			return appendable;
+		}
+		final char[] chars = new char[MAX_CHARS];
+		final int end = toChars(v, chars, 0);
+		for (int i = 0; i < end; i++) {
+			appendable.append(chars[i]);
+		}
+		return appendable;
+	}
+
+	/**
+	 * Returns the decimal representation of <code>v</code>.
+	 *
+	 * @param v
+	 *            the value.
+	 * @return the shortest decimal that reads back to <code>v</code>.
+	 */
+	public static String toString(double v) {
+		final char[] chars = new char[MAX_CHARS];
+		return new String(chars, 0, toChars(v, chars, 0));
+	}
+
+	/**
+	 * Computes the shortest decimal in the rounding interval of <code>v = c 2^q</code> and writes it.
+	 */
+	private static int toDecimal(int q, long c, int dk, char[] chars, int pos) {
+		final int out = (int) c & 0x1;
+		final long cb = c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if (c != C_MIN | q == Q_MIN) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		} else {
+			// the interval is asymmetric at powers of two
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		final int h = q + flog2pow10(-k) + 2;
+
+		// g = g1 2^63 + g0 approximates 10^-k from above
+		final long g1 = Powers.G[2 * (k - K_MIN)];
+		final long g0 = Powers.G[2 * (k - K_MIN) + 1];
+
+		final long vb = rop(g1, g0, cb << h);
+		final long vbl = rop(g1, g0, cbl << h);
+		final long vbr = rop(g1, g0, cbr << h);
+
+		final long s = vb >> 2;
+		if (s >= 100) {
+			// try one digit less first: sp10 = 10 floor(s / 10)
+			final long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			final long tp10 = sp10 + 10;
+			final boolean upin = vbl + out <= sp10 << 2;
+			final boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return layout(upin ? sp10 : tp10, k, chars, pos);
+			}
+		}
+		final long t = s + 1;
+		final boolean uin = vbl + out <= s << 2;
+		final boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			return layout(uin ? s : t, k + dk, chars, pos);
+		}
+		// both candidates are in the interval, pick the closest one, the even one on ties
+		final long cmp = vb - (s + t << 1);
+		return layout(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, chars, pos);
+	}
+
+	/**
+	 * Rounds <code>g cp 2^-127</code> to odd.
+	 */
+	private static long rop(long g1, long g0, long cp) {
+		final long x1 = multiplyHigh(g0, cp);
+		final long y0 = g1 * cp;
+		final long y1 = multiplyHigh(g1, cp);
+		final long z = (y0 >>> 1) + x1;
+		final long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+
+	/**
+	 * Writes <code>f 10^e</code> in the layout of <code>Double.toString</code>.
+	 */
+	private static int layout(long f, int e, char[] chars, int pos) {
+		int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+		if (f >= POWERS_OF_TEN[len]) {
+			len++;
+		}
+		// the value is 0.d1d2...dlen 10^e
+		e += len;
+		while (len > 1 && f % 10 == 0) {
+			f /= 10;
+			len--;
+		}
+		if (0 < e && e <= 7) {
+			// plain, at least one integer digit
+			if (len <= e) {
+				pos = digits(f, len, chars, pos);
+				for (int i = len; i < e; i++) {
+					chars[pos++] = '0';
+				}
+				chars[pos++] = '.';
+				chars[pos++] = '0';
+			} else {
+				final long scale = POWERS_OF_TEN[len - e];
+				pos = digits(f / scale, e, chars, pos);
+				chars[pos++] = '.';
+				pos = digits(f % scale, len - e, chars, pos);
+			}
+		} else if (-3 < e && e <= 0) {
+			// plain, below one
+			chars[pos++] = '0';
+			chars[pos++] = '.';
+			for (int i = e; i < 0; i++) {
+				chars[pos++] = '0';
+			}
+			pos = digits(f, len, chars, pos);
+		} else {
+			// computerized scientific notation
+			final long scale = POWERS_OF_TEN[len - 1];
+			chars[pos++] = (char) ('0' + f / scale);
+			chars[pos++] = '.';
+			if (len > 1) {
+				pos = digits(f % scale, len - 1, chars, pos);
+			} else {
+				chars[pos++] = '0';
+			}
+			chars[pos++] = 'E';
+			int exp = e - 1;
+			if (exp < 0) {
+				chars[pos++] = '-';
+				exp = -exp;
+			}
+			pos = digits(exp, exp < 10 ? 1 : exp < 100 ? 2 : 3, chars, pos);
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes exactly <code>len</code> digits of <code>value</code>, with leading zeros.
+	 */
+	private static int digits(long value, int len, char[] chars, int pos) {
+		for (int i = pos + len - 1; i >= pos; i--) {
+			chars[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		return pos + len;
+	}
+
+	private static int copy(String s, char[] chars, int pos) {
+		s.getChars(0, s.length(), chars, pos);
+		return pos + s.length();
+	}
+
+	/** floor(e log10(2)) */
+	private static int flog10pow2(int e) {
+		return (int) (e * 661_971_961_083L >> 41);
+	}
+
+	/** floor(log10(3/4 2^e)) */
+	private static int flog10threeQuartersPow2(int e) {
+		return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+	}
+
+	/** floor(e log2(10)) */
+	private static int flog2pow10(int e) {
+		return (int) (e * 913_124_641_741L >> 38);
+	}
+
+	/**
+	 * The high 64 bits of the 128 bit product, like <code>Math.multiplyHigh</code> which needs Java 9.
+	 */
+	private static long multiplyHigh(long x, long y) {
+		final long x1 = x >> 32;
+		final long x2 = x & 0xFFFFFFFFL;
+		final long y1 = y >> 32;
+		final long y2 = y & 0xFFFFFFFFL;
+		final long z2 = x2 * y2;
+		final long t = x1 * y2 + (z2 >>> 32);
+		long z1 = t & 0xFFFFFFFFL;
+		final long z0 = t >> 32;
+		z1 += x2 * y1;
+		return x1 * y1 + z0 + (z1 >> 32);
+	}
+
+	/**
+	 * Holds the 126 bit approximations g of the powers of ten, computed when first needed.
+	 */
+	private static final class Powers {
+		/**
+		 * For each k, g1 and g0 with g = g1 2^63 + g0 = floor(10^-k 2^-r) + 1 and 2^125 &lt;= g &lt; 2^126.
+		 */
+		static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+		static {
+			final BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+			for (int k = K_MIN; k <= K_MAX; k++) {
+				final int e = -k;
+				final int r = flog2pow10(e) - 125;
+				final BigInteger num = BigInteger.TEN.pow(Math.max(e, 0)).shiftLeft(Math.max(-r, 0));
+				final BigInteger den = BigInteger.TEN.pow(Math.max(-e, 0)).shiftLeft(Math.max(r, 0));
+				final BigInteger g = num.divide(den).add(BigInteger.ONE);
+				G[2 * (k - K_MIN)] = g.shiftRight(63).longValueExact();
+				G[2 * (k - K_MIN) + 1] = g.and(mask).longValueExact();
+			}
+		}
+	}
+}
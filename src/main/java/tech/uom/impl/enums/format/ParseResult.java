@@ -0,0 +1,178 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import javax.measure.format.MeasurementParseException;
+
+/**
+ * <p>
+ * The status of the last <code>tryParse</code> call it was passed to, reporting failures without throwing.
+ * </p>
+ * <p>
+ * A result is meant to be reused across calls by a single thread: parsing a malformed token only records the {@link Reason} and the
+ * error index, so rejecting bad input costs no more than accepting good input. Callers that need an exception after all can obtain
+ * one through {@link #toException(CharSequence)}.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class ParseResult {
+
+	/**
+	 * The reason a parse failed.
+	 */
+	public enum Reason {
+		/** The last parse succeeded. */
+		NONE("No error"),
+		/** No number was found where one was expected. */
+		NUMBER_EXPECTED("Number expected"),
+		/** No known unit symbol was found. */
+		UNKNOWN_UNIT("Unknown unit"),
+		/** Characters were left after the parsed value. */
+		UNEXPECTED_CHARACTER("Unexpected character"),
+		/** The number cannot be represented, such as a decimal exponent beyond the range of <code>int</code>. */
+		NUMBER_OUT_OF_RANGE("Number out of range");
+
+		private final String message;
+
+		private Reason(String message) {
+			this.message = message;
+		}
+
+		/**
+		 * Returns the message of exceptions thrown for this reason.
+		 *
+		 * @return the message.
+		 */
+		public String getMessage() {
+			return message;
+		}
+	}
+
+	private Reason reason = Reason.NONE;
+
+	private int errorIndex = -1;
+
+	/**
+	 * Creates a successful result.
+	 */
+	public ParseResult() {
+	}
+
+	/**
+	 * Indicates if the last parse succeeded.
+	 *
+	 * @return <code>true</code> if no error was reported.
+	 */
+	public boolean isSuccess() {
+		return reason == Reason.NONE;
+	}
+
+	/**
+	 * Returns why the last parse failed.
+	 *
+	 * @return the reason, {@link Reason#NONE} on success.
+	 */
+	public Reason getReason() {
+		return reason;
+	}
+
+	/**
+	 * Returns the index of the character where the last parse failed.
+	 *
+	 * @return the error index, or <code>-1</code> on success.
+	 */
+	public int getErrorIndex() {
+		return errorIndex;
+	}
+
+	/**
+	 * Marks this result as successful.
+	 */
+	public void reset() {
+		reason = Reason.NONE;
+		errorIndex = -1;
+	}
+
+	/**
+	 * Records a failure.
+	 */
+	void fail(Reason reason, int errorIndex) {
+		this.reason = reason;
+		this.errorIndex = errorIndex;
+	}
+
+	/**
+	 * Returns an exception describing the recorded failure. The exception does not capture a stack trace, which would cost more than
+	 * parsing itself and only ever point into the parser.
+	 *
+	 * @param csq
+	 *            the parsed character sequence.
+	 * @return the exception to throw.
+	 * @throws IllegalStateException
+	 *             if the last parse succeeded.
+	 */
+	public MeasurementParseException toException(CharSequence csq) {
+		if (isSuccess()) {
+			throw new IllegalStateException("No parse error");
+		}
+		return exception(reason, csq, errorIndex);
+	}
+
+	/**
+	 * Returns an exception without stack trace for the specified reason.
+	 */
+	static MeasurementParseException exception(Reason reason, CharSequence csq, int errorIndex) {
+		return new StacklessParseException(reason.getMessage(), csq, errorIndex);
+	}
+
+	@Override
+	public String toString() {
+		return isSuccess() ? reason.getMessage() : reason.getMessage() + " at index " + errorIndex;
+	}
+
+	/**
+	 * A parse exception skipping the stack walk on construction.
+	 */
+	private static final class StacklessParseException extends MeasurementParseException {
+		private static final long serialVersionUID = 8046271381542394129L;
+
+		StacklessParseException(String message, CharSequence parsedData, int position) {
+			super(message, parsedData, position);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+}
@@ -37,11 +37,23 @@ import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.quantity.NanoTimeQuantity;
 import tech.uom.impl.enums.quantity.Quantities;
 import tech.uom.impl.enums.unit.DimensionlessUnit;
 
 /**
  * A simple implementation of QuantityFormat
+ * <p>
+ * Numbers are read directly from the parsed character sequence. By default they are parsed as exactly rounded <code>double</code>
+ * values without intermediate objects, {@link #getDecimalInstance()} passes the exact decimal value to the quantity factory instead.
+ * </p>
+ * <p>
+ * Malformed input is reported without exceptions by the <code>tryParse</code> methods, the <code>parse</code> methods throw
+ * exceptions without stack trace.
+ * </p>
+ *
+ * @version 1.5, $Date: 2026-10-18 $
  */
 @SuppressWarnings("rawtypes")
 public class SimpleQuantityFormat extends AbstractQuantityFormat {
@@ -55,53 +67,146 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
 	 */
 	private static final SimpleQuantityFormat DEFAULT = new SimpleQuantityFormat();
 
+	/**
+	 * Holds the format instance parsing exact decimal values.
+	 */
+	private static final SimpleQuantityFormat DECIMAL = new SimpleQuantityFormat(true);
+
+	/**
+	 * Holds the result reused by the throwing <code>parse</code> methods of the current thread.
+	 */
+	private static final ThreadLocal<ParseResult> RESULT = ThreadLocal.withInitial(ParseResult::new);
+
+	/**
+	 * Indicates if values are parsed as <code>BigDecimal</code> rather than <code>double</code>.
+	 */
+	private final boolean decimal;
+
+	/**
+	 * Creates a format parsing values as <code>double</code>.
+	 */
+	public SimpleQuantityFormat() {
+		this(false);
+	}
+
+	/**
+	 * Creates a format parsing values as <code>BigDecimal</code> if <code>decimal</code> is set,
+	 * as <code>double</code> otherwise.
+	 *
+	 * @param decimal
+	 *          whether to keep the exact decimal value.
+	 * @since 2.2
+	 */
+	public SimpleQuantityFormat(boolean decimal) {
+		this.decimal = decimal;
+	}
+
 	@Override
 	public Appendable format(Quantity quantity, Appendable dest) throws IOException {
 		Unit unit = quantity.getUnit();
 
-		dest.append(quantity.getValue().toString());
+		// Reads the primitive value of our quantities without boxing it. The value of a NanoTimeQuantity is a Long when whole.
+		if (quantity instanceof DoubleQuantity && !(quantity instanceof NanoTimeQuantity)) {
+			DoubleToDecimal.appendTo(((DoubleQuantity<?>) quantity).doubleValue(), dest);
+		} else {
+			final Number value = quantity.getValue();
+			if (value instanceof Double) {
+				DoubleToDecimal.appendTo(value.doubleValue(), dest);
+			} else {
+				dest.append(value.toString());
+			}
+		}
 		if (quantity.getUnit().equals(DimensionlessUnit.ONE))
 			return dest;
 		dest.append(' ');
 		return SimpleUnitFormat.getInstance().format(unit, dest);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Quantity<?> parse(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
-		int startDecimal = cursor.getIndex();
-		while ((startDecimal < csq.length()) && Character.isWhitespace(csq.charAt(startDecimal))) {
-			startDecimal++;
-		}
-		int endDecimal = startDecimal + 1;
-		while ((endDecimal < csq.length()) && !Character.isWhitespace(csq.charAt(endDecimal))) {
-			endDecimal++;
+		final ParseResult result = RESULT.get();
+		final Quantity<?> quantity = tryParse(csq, cursor, result);
+		if (quantity == null) {
+			throw result.toException(csq);
 		}
-		BigDecimal decimal = new BigDecimal(csq.subSequence(startDecimal, endDecimal).toString());
-		cursor.setIndex(endDecimal + 1);
-		Unit unit = SimpleUnitFormat.getInstance().parse(csq);
-		return Quantities.getQuantity(decimal, unit);
+		return quantity;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	Quantity<?> parse(CharSequence csq, int index) throws MeasurementParseException {
-		int startDecimal = index; // cursor.getIndex();
+	public Quantity<?> tryParse(CharSequence csq, ParsePosition cursor, ParseResult result) {
+		final int start = cursor.getIndex();
+		int startDecimal = start;
 		while ((startDecimal < csq.length()) && Character.isWhitespace(csq.charAt(startDecimal))) {
 			startDecimal++;
 		}
-		int endDecimal = startDecimal + 1;
-		while ((endDecimal < csq.length()) && !Character.isWhitespace(csq.charAt(endDecimal))) {
-			endDecimal++;
+		cursor.setIndex(startDecimal);
+		cursor.setErrorIndex(-1);
+		// The double is kept primitive up to the quantity factory.
+		BigDecimal decimalValue = null;
+		double doubleValue = 0d;
+		if (decimal) {
+			decimalValue = DecimalScanner.parseDecimal(csq, cursor);
+		} else {
+			doubleValue = DecimalScanner.parseDouble(csq, cursor);
+		}
+		if (cursor.getIndex() == startDecimal) {
+			cursor.setIndex(start);
+			if (cursor.getErrorIndex() > startDecimal) {
+				result.fail(ParseResult.Reason.NUMBER_OUT_OF_RANGE, cursor.getErrorIndex());
+			} else {
+				cursor.setErrorIndex(startDecimal);
+				result.fail(ParseResult.Reason.NUMBER_EXPECTED, startDecimal);
+			}
+			return null;
+		}
+		int startUnit = cursor.getIndex();
+		while ((startUnit < csq.length()) && Character.isWhitespace(csq.charAt(startUnit))) {
+			startUnit++;
+		}
+		cursor.setIndex(startUnit);
+		Unit unit = SimpleUnitFormat.getInstance().tryParse(csq, cursor, result);
+		if (unit == null) {
+			cursor.setIndex(start);
+			return null;
 		}
-		Double decimal = new Double(csq.subSequence(startDecimal, endDecimal).toString());
-		Unit unit = SimpleUnitFormat.getInstance().parse(csq);
-		return Quantities.getQuantity(decimal, unit);
+		return decimal ? Quantities.getQuantity(decimalValue, unit) : Quantities.getQuantity(doubleValue, unit);
+	}
+
+	@Override
+	Quantity<?> parse(CharSequence csq, int index) throws MeasurementParseException {
+		return parse(csq, new ParsePosition(index));
 	}
 
 	@Override
 	public Quantity<?> parse(CharSequence csq) throws MeasurementParseException {
-		return parse(csq, new ParsePosition(0));
+		final ParseResult result = RESULT.get();
+		final Quantity<?> quantity = tryParse(csq, result);
+		if (quantity == null) {
+			throw result.toException(csq);
+		}
+		return quantity;
+	}
+
+	/**
+	 * Parses the whole character sequence like {@link #parse(CharSequence)}, but reports a failure through the specified result
+	 * instead of throwing.
+	 *
+	 * @param csq
+	 *          the <code>CharSequence</code> to parse.
+	 * @param result
+	 *          the status to update.
+	 * @return the quantity parsed from the specified character sequence, or <code>null</code>.
+	 * @since 2.2
+	 */
+	public Quantity<?> tryParse(CharSequence csq, ParseResult result) {
+		final ParsePosition pos = new ParsePosition(0);
+		final Quantity<?> quantity = tryParse(csq, pos, result);
+		if (quantity != null && pos.getIndex() < csq.length()) {
+			result.fail(ParseResult.Reason.UNEXPECTED_CHARACTER, pos.getIndex());
+			return null;
+		}
+		return quantity;
 	}
 
   /**
@@ -113,4 +218,14 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
   public static SimpleQuantityFormat getInstance() {
     return DEFAULT;
   }
+
+  /**
+   * Returns a quantity format like {@link #getInstance()} that parses values as <code>BigDecimal</code>, keeping every digit.
+   *
+   * @return the decimal quantity format.
+   * @since 2.2
+   */
+  public static SimpleQuantityFormat getDecimalInstance() {
+    return DECIMAL;
+  }
 }
\ No newline at end of file
@@ -30,25 +30,42 @@
 package tech.uom.impl.enums.format;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.text.ParsePosition;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
-import javax.measure.format.UnitFormat;
 
 import tech.uom.impl.enums.unit.MixedUnit;
 import tech.uom.impl.enums.unit.DimensionlessUnit;
 import tech.uom.impl.enums.unit.DistanceUnit;
+import tech.uom.impl.enums.unit.TemperatureUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
 
 /**
  * <p>
  * This class provides a simple interface for formatting and parsing {@linkplain javax.measure.Unit units}.
  * </p>
+ * <p>
+ * Parsing recognizes the symbols of all enum units and a few aliases, such as <code>degC</code> or <code>&#x2103;</code> for
+ * <code>&#xB0;C</code>. Minutes, whose symbol <code>m</code> is taken by the metre, are formatted and parsed as <code>min</code>. The longest symbol at
+ * the parse position is read, so units can directly follow a number as in <code>5km</code>.
+ * </p>
+ * <p>
+ * Labels and aliases can be registered at runtime with {@link #label(Unit, String)} and {@link #alias(Unit, String)}, or replaced
+ * as a whole by {@link #reload(Properties)}. Registrations are published as an immutable snapshot: formatting and parsing read it
+ * with a single volatile load and never lock, while each registration atomically swaps in a new snapshot.
+ * </p>
  *
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.0, $Date: 2020-12-06 $
+ * @version 2.3, $Date: 2026-10-18 $
  */
 public class SimpleUnitFormat extends AbstractUnitFormat {
     /**
@@ -56,19 +73,19 @@ public class SimpleUnitFormat extends AbstractUnitFormat {
      */
     // private static final long serialVersionUID = -7753687108842507677L;
 
-    private final Map<String, String> symbolMap = new HashMap<String, String>(); // Diamond (Java 7+)
     /**
-     * Holds the unique symbols collection.
+     * Holds the symbols, labels and aliases of all known units, without runtime registrations. Minutes are labeled
+     * <code>min</code>, their symbol <code>m</code> would be parsed back as metres.
      */
-    private static final Map<String, Unit<?>> unitMap = new HashMap<>();
+    private static final UnitRegistry BUILT_IN = new UnitRegistry(symbols()).withLabel(TimeUnit.MINUTE, "min");
 
-    private static final UnitFormat DEFAULT = new SimpleUnitFormat();
+    private static final SimpleUnitFormat DEFAULT = new SimpleUnitFormat();
 
     // /////////////////
     // Class methods //
     // /////////////////
     /** Returns the default instance for formatting */
-    public static UnitFormat getInstance() {
+    public static SimpleUnitFormat getInstance() {
         return DEFAULT;
     }
 
@@ -79,7 +96,32 @@ public class SimpleUnitFormat extends AbstractUnitFormat {
      * Base constructor.
      */
     SimpleUnitFormat() {
-        unitMap.put("m", DistanceUnit.METRE);
+    }
+
+    /**
+     * Holds the current labels and symbols, replaced as a whole on every registration.
+     */
+    private final AtomicReference<UnitRegistry> registry = new AtomicReference<>(BUILT_IN);
+
+    /**
+     * Collects the symbols to parse. The first unit registered for a symbol wins.
+     */
+    private static Map<String, Unit<?>> symbols() {
+        final Map<String, Unit<?>> symbols = new LinkedHashMap<>();
+        for (Unit<?>[] units : new Unit<?>[][] { DistanceUnit.values(), TimeUnit.values(), TemperatureUnit.values(),
+                DimensionlessUnit.values() }) {
+            for (Unit<?> unit : units) {
+                symbols.putIfAbsent(unit.getSymbol(), unit);
+            }
+        }
+        symbols.put("us", TimeUnit.MICROSECOND);
+        symbols.put("\u03bcs", TimeUnit.MICROSECOND);
+        symbols.put("degC", TemperatureUnit.CELSIUS);
+        symbols.put("\u2103", TemperatureUnit.CELSIUS);
+        symbols.put("degF", TemperatureUnit.FAHRENHEIT);
+        symbols.put("\u2109", TemperatureUnit.FAHRENHEIT);
+        symbols.put("degR", TemperatureUnit.RANKINE);
+        return symbols;
     }
 
     // //////////////
@@ -89,18 +131,17 @@ public class SimpleUnitFormat extends AbstractUnitFormat {
         // Mixed unit.
         if (unit instanceof MixedUnit) {
             MixedUnit<?> cpdUnit = (MixedUnit<?>) unit;
-            final StringBuilder mixable = new StringBuilder();
-            mixable.append(cpdUnit.getUpper().getSymbol());
-            mixable.append(":"); // FIXME we need a more flexible pattern here
-            mixable.append(cpdUnit.getLower().getSymbol());
-            return mixable;
+            format(cpdUnit.getUpper(), appendable);
+            appendable.append(":"); // FIXME we need a more flexible pattern here
+            return format(cpdUnit.getLower(), appendable);
         } else {
             CharSequence symbol;
 
-            @SuppressWarnings("unlikely-arg-type")
-            String mapSymbol = symbolMap.get(unit);
+            String mapSymbol = registry.get().label(unit);
             if (mapSymbol != null) {
                 symbol = mapSymbol;
+            } else if (unit.getSymbol() != null) {
+                symbol = unit.getSymbol();
             } else {
                 throw new IllegalArgumentException("Symbol mapping for unit of type " + //$NON-NLS-1$
                         unit.getClass().getName() + " has not been set " + //$NON-NLS-1$
@@ -113,8 +154,91 @@ public class SimpleUnitFormat extends AbstractUnitFormat {
         }
     }
 
+    /**
+     * Attaches a label to the specified unit. The unit is formatted with this label instead of its symbol, and the label is parsed as
+     * the unit. A previous label of the unit stays parseable.
+     *
+     * @param unit
+     *            the unit being labeled.
+     * @param label
+     *            the new label for this unit.
+     * @throws IllegalArgumentException
+     *             if the label is empty or contains whitespace.
+     */
     public void label(Unit<?> unit, String label) {
-        // do nothing
+        checkSymbol(unit, label);
+        registry.updateAndGet(r -> r.withLabel(unit, label));
+    }
+
+    /**
+     * Attaches an alias to the specified unit. The alias is parsed as the unit, formatting is not affected.
+     *
+     * @param unit
+     *            the unit being aliased.
+     * @param alias
+     *            the alias for this unit.
+     * @throws IllegalArgumentException
+     *             if the alias is empty or contains whitespace.
+     */
+    public void alias(Unit<?> unit, String alias) {
+        checkSymbol(unit, alias);
+        registry.updateAndGet(r -> r.withAlias(unit, alias));
+    }
+
+    /**
+     * Replaces all labels and aliases registered so far by those of the specified properties. Each key is the built-in symbol or alias
+     * of a unit, such as <code>degC</code>; its value is a comma separated list of the label of that unit followed by its aliases, such
+     * as <code>Cel,celsius</code>. Either all properties are applied at once or, if one is invalid, none.
+     *
+     * @param labels
+     *            the labels and aliases by unit symbol.
+     * @throws IllegalArgumentException
+     *             if a key is not a known symbol, or a label or alias is empty or contains whitespace.
+     */
+    public void reload(Properties labels) {
+        UnitRegistry next = BUILT_IN;
+        for (String key : new TreeSet<>(labels.stringPropertyNames())) {
+            final Unit<?> unit = BUILT_IN.unit(key);
+            if (unit == null) {
+                throw new IllegalArgumentException("Unknown unit symbol: " + key);
+            }
+            final String[] names = labels.getProperty(key).split(",");
+            for (int i = 0; i < names.length; i++) {
+                final String name = names[i].trim();
+                checkSymbol(unit, name);
+                next = i == 0 ? next.withLabel(unit, name) : next.withAlias(unit, name);
+            }
+        }
+        registry.set(next);
+    }
+
+    /**
+     * Replaces all labels and aliases registered so far by those of a properties resource, read as UTF-8.
+     *
+     * @param in
+     *            the properties, not closed by this method.
+     * @throws IOException
+     *             if the properties cannot be read.
+     * @see #reload(Properties)
+     */
+    public void reload(InputStream in) throws IOException {
+        final Properties labels = new Properties();
+        labels.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        reload(labels);
+    }
+
+    private static void checkSymbol(Unit<?> unit, String symbol) {
+        if (unit == null || symbol == null) {
+            throw new NullPointerException();
+        }
+        if (symbol.isEmpty()) {
+            throw new IllegalArgumentException("Empty label for " + unit);
+        }
+        for (int i = 0; i < symbol.length(); i++) {
+            if (Character.isWhitespace(symbol.charAt(i))) {
+                throw new IllegalArgumentException("Label '" + symbol + "' contains whitespace");
+            }
+        }
     }
 
     public boolean isLocaleSensitive() {
@@ -122,30 +246,83 @@ public class SimpleUnitFormat extends AbstractUnitFormat {
     }
 
     protected Unit<?> parse(CharSequence csq, int index) throws MeasurementParseException {
-        // Parsing reads the whole character sequence from the parse position.
-        int start = index; // cursor != null ? cursor.getIndex() : 0;
-        int end = csq.length();
-        if (end <= start) {
-            return DimensionlessUnit.ONE;
-        }
-        final Unit<?> result = unitMap.get(csq);
-        if (result != null) {
-            return result;
-        }
-        throw new MeasurementParseException("Error", csq, index);
+        return parse(csq, new ParsePosition(index));
     }
 
     /**
-     * Parses the specified character sequence to produce a unit (convenience method). If the specified sequence is empty, the unitary unit
-     * (dimensionless) is returned.
+     * Parses the unit symbol at the position of the specified cursor and advances the cursor after it. The longest known symbol is
+     * read, characters following it are left to the caller. If the cursor is at the end of the sequence or at whitespace, the
+     * unitary unit (dimensionless) is returned.
      *
      * @param csq
      *            the <code>CharSequence</code> to parse.
+     * @param pos
+     *            the cursor holding the current parsing index.
      * @return the unit parsed from the specified character sub-sequence.
      * @throws MeasurementParseException
-     *             if any problem occurs while parsing the specified character sequence (e.g. illegal syntax).
+     *             if no known symbol starts at the cursor.
      */
     public final Unit<?> parse(CharSequence csq, ParsePosition pos) throws MeasurementParseException {
-        return parse(csq, pos.getIndex());
+        final Unit<?> result = registry.get().match(csq, pos);
+        if (result != null) {
+            return result;
+        }
+        final int index = pos.getIndex();
+        if (index >= csq.length() || Character.isWhitespace(csq.charAt(index))) {
+            return DimensionlessUnit.ONE;
+        }
+        pos.setErrorIndex(index);
+        throw ParseResult.exception(ParseResult.Reason.UNKNOWN_UNIT, csq, index);
+    }
+
+    /**
+     * Parses the unit symbol at the position of the specified cursor like {@link #parse(CharSequence, ParsePosition)}, but reports a
+     * failure through the specified result instead of throwing. On failure the cursor index is unchanged, its error index and the
+     * result are set and <code>null</code> is returned; on success the result is reset.
+     *
+     * @param csq
+     *            the <code>CharSequence</code> to parse.
+     * @param pos
+     *            the cursor holding the current parsing index.
+     * @param result
+     *            the status to update.
+     * @return the unit parsed from the specified character sub-sequence, or <code>null</code>.
+     * @since 2.2
+     */
+    public final Unit<?> tryParse(CharSequence csq, ParsePosition pos, ParseResult result) {
+        final Unit<?> unit = registry.get().match(csq, pos);
+        if (unit != null) {
+            result.reset();
+            return unit;
+        }
+        final int index = pos.getIndex();
+        if (index >= csq.length() || Character.isWhitespace(csq.charAt(index))) {
+            result.reset();
+            return DimensionlessUnit.ONE;
+        }
+        pos.setErrorIndex(index);
+        result.fail(ParseResult.Reason.UNKNOWN_UNIT, index);
+        return null;
+    }
+
+    /**
+     * Parses the whole character sequence like {@link #parse(CharSequence)}, but reports a failure through the specified result
+     * instead of throwing.
+     *
+     * @param csq
+     *            the <code>CharSequence</code> to parse.
+     * @param result
+     *            the status to update.
+     * @return the unit parsed from the specified character sequence, or <code>null</code>.
+     * @since 2.2
+     */
+    public final Unit<?> tryParse(CharSequence csq, ParseResult result) {
+        final ParsePosition pos = new ParsePosition(0);
+        final Unit<?> unit = tryParse(csq, pos, result);
+        if (unit != null && pos.getIndex() < csq.length()) {
+            result.fail(ParseResult.Reason.UNEXPECTED_CHARACTER, pos.getIndex());
+            return null;
+        }
+        return unit;
     }
 }
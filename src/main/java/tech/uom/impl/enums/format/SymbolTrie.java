@@ -0,0 +1,152 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * An immutable character trie over unit symbols, matching the longest symbol at a parse position.
+ * </p>
+ * <p>
+ * Nodes are stored as arrays, each with its sorted outgoing characters, so a lookup costs one binary search over a few characters
+ * per symbol character and allocates nothing.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class SymbolTrie {
+
+	/**
+	 * The outgoing characters of each node, sorted.
+	 */
+	private final char[][] chars;
+
+	/**
+	 * The child node reached by each outgoing character.
+	 */
+	private final int[][] children;
+
+	/**
+	 * The unit of the symbol ending at each node, <code>null</code> if none does.
+	 */
+	private final Unit<?>[] units;
+
+	/**
+	 * Builds a trie from the specified symbols.
+	 *
+	 * @param symbols
+	 *            the units by symbol, empty symbols are ignored.
+	 */
+	SymbolTrie(Map<String, ? extends Unit<?>> symbols) {
+		final List<Node> nodes = new ArrayList<>();
+		nodes.add(new Node());
+		for (Map.Entry<String, ? extends Unit<?>> e : symbols.entrySet()) {
+			final String symbol = e.getKey();
+			if (symbol.isEmpty()) {
+				continue;
+			}
+			Node node = nodes.get(0);
+			for (int i = 0; i < symbol.length(); i++) {
+				Integer child = node.next.get(symbol.charAt(i));
+				if (child == null) {
+					child = nodes.size();
+					node.next.put(symbol.charAt(i), child);
+					nodes.add(new Node());
+				}
+				node = nodes.get(child);
+			}
+			node.unit = e.getValue();
+		}
+		final int size = nodes.size();
+		chars = new char[size][];
+		children = new int[size][];
+		units = new Unit<?>[size];
+		for (int n = 0; n < size; n++) {
+			final Node node = nodes.get(n);
+			chars[n] = new char[node.next.size()];
+			children[n] = new int[node.next.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> e : node.next.entrySet()) {
+				chars[n][i] = e.getKey();
+				children[n][i++] = e.getValue();
+			}
+			units[n] = node.unit;
+		}
+	}
+
+	/**
+	 * Matches the longest symbol starting at the index of the specified position. On success the index is set after the symbol.
+	 *
+	 * @param csq
+	 *            the characters to parse.
+	 * @param pos
+	 *            the parse position, left unchanged if no symbol matches.
+	 * @return the unit of the longest matching symbol or <code>null</code> if none matches.
+	 */
+	Unit<?> match(CharSequence csq, ParsePosition pos) {
+		final int length = csq.length();
+		Unit<?> found = null;
+		int end = pos.getIndex();
+		int node = 0;
+		for (int i = pos.getIndex(); i < length; i++) {
+			final int k = Arrays.binarySearch(chars[node], csq.charAt(i));
+			if (k < 0) {
+				break;
+			}
+			node = children[node][k];
+			if (units[node] != null) {
+				found = units[node];
+				end = i + 1;
+			}
+		}
+		if (found != null) {
+			pos.setIndex(end);
+		}
+		return found;
+	}
+
+	/**
+	 * A node while building the trie.
+	 */
+	private static final class Node {
+		final Map<Character, Integer> next = new TreeMap<>();
+		Unit<?> unit;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import java.text.ParsePosition;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * An immutable snapshot of the labels and symbols known to a {@link SimpleUnitFormat}.
+ * </p>
+ * <p>
+ * Registrations return a new snapshot and leave this one unchanged, so a format can publish snapshots through a single volatile
+ * reference: readers never lock and always see a consistent set of labels and symbols.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class UnitRegistry {
+
+	/**
+	 * The units by symbol, label or alias, in registration order.
+	 */
+	private final Map<String, Unit<?>> symbols;
+
+	/**
+	 * The labels replacing the symbols of units when formatting.
+	 */
+	private final Map<Unit<?>, String> labels;
+
+	/**
+	 * The parse trie over {@link #symbols}.
+	 */
+	private final SymbolTrie trie;
+
+	private UnitRegistry(Map<String, Unit<?>> symbols, Map<Unit<?>, String> labels) {
+		this.symbols = Collections.unmodifiableMap(symbols);
+		this.labels = Collections.unmodifiableMap(labels);
+		this.trie = new SymbolTrie(symbols);
+	}
+
+	/**
+	 * Creates a registry parsing the specified symbols, without labels.
+	 *
+	 * @param symbols
+	 *            the units by symbol.
+	 */
+	UnitRegistry(Map<String, ? extends Unit<?>> symbols) {
+		this(new LinkedHashMap<String, Unit<?>>(symbols), new HashMap<Unit<?>, String>());
+	}
+
+	/**
+	 * Returns a registry where the specified unit is formatted with the specified label, which is also parsed as that unit.
+	 */
+	UnitRegistry withLabel(Unit<?> unit, String label) {
+		final Map<String, Unit<?>> newSymbols = new LinkedHashMap<>(symbols);
+		newSymbols.put(label, unit);
+		final Map<Unit<?>, String> newLabels = new HashMap<>(labels);
+		newLabels.put(unit, label);
+		return new UnitRegistry(newSymbols, newLabels);
+	}
+
+	/**
+	 * Returns a registry where the specified alias is parsed as the specified unit.
+	 */
+	UnitRegistry withAlias(Unit<?> unit, String alias) {
+		final Map<String, Unit<?>> newSymbols = new LinkedHashMap<>(symbols);
+		newSymbols.put(alias, unit);
+		return new UnitRegistry(newSymbols, labels);
+	}
+
+	/**
+	 * Returns the label of the specified unit, or <code>null</code> if it is formatted with its symbol.
+	 */
+	String label(Unit<?> unit) {
+		return labels.get(unit);
+	}
+
+	/**
+	 * Returns the unit of the specified symbol, label or alias, or <code>null</code> if unknown.
+	 */
+	Unit<?> unit(String symbol) {
+		return symbols.get(symbol);
+	}
+
+	/**
+	 * Matches the longest symbol, label or alias at the index of the specified position.
+	 *
+	 * @see SymbolTrie#match(CharSequence, ParsePosition)
+	 */
+	Unit<?> match(CharSequence csq, ParsePosition pos) {
+		return trie.match(csq, pos);
+	}
+}
@@ -29,6 +29,11 @@
  */
 package tech.uom.impl.enums.function;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,8 +42,19 @@ import javax.measure.UnitConverter;
 /**
  * <p> The base class for our {@link UnitConverter} physics implementations.</p>
  *
+ * <p> Besides the scalar {@link #convert(double)}, converters support bulk conversion of
+ *     <code>double</code> arrays and buffers. Subclasses should override
+ *     {@link #convertRange(double[], int, double[], int, int)} with a tight loop
+ *     over their own arithmetic.</p>
+ *
+ * <p> Concatenating multiplying, adding and affine converters folds them into a single
+ *     {@link AffineConverter}, so deep conversion chains cost the same as a direct conversion.</p>
+ *
+ * <p> {@link #convert(Number)} keeps the kind of its argument where possible: integral values
+ *     stay integral if the conversion is exact, decimal values stay decimal.</p>
+ *
  * @author  <a href="mailto:units@catmedia.us">Werner Keil</a>
- * @version 0.7.1, $Date: 2014-09-07 $
+ * @version 1.1, $Date: 2026-10-18 $
  */
 public abstract class AbstractConverter implements UnitConverter {
 	
@@ -57,6 +73,16 @@ public abstract class AbstractConverter implements UnitConverter {
      */
     public static final AbstractConverter IDENTITY = new Identity();
 
+    /**
+     * Number of values converted at a time for buffers without accessible array.
+     */
+    private static final int BUFFER_CHUNK = 512;
+
+    /**
+     * Holds the inverse converter once computed by {@link #cachedInverse()}.
+     */
+    private AbstractConverter inverse;
+
     /**
      * Default constructor.
      */
@@ -68,12 +94,22 @@ public abstract class AbstractConverter implements UnitConverter {
      * The resulting converter is equivalent to first converting by the
      * specified converter (right converter), and then converting by
      * this converter (left converter).
+     * Adjacent affine steps of both converters are folded into one.
      *
      * @param that the other converter.
      * @return the concatenation of this converter with that converter.
      */
     public AbstractConverter concatenate(AbstractConverter that) {
-        return (that == IDENTITY) ? this : new Pair(this, that);
+        if (that == IDENTITY) {
+            return this;
+        }
+        if (this.isAffine() && that.isAffine()) {
+            return compose(this, that);
+        }
+        if (this instanceof Pair || that instanceof Pair) {
+            return normalize(new Pair(this, that));
+        }
+        return new Pair(this, that);
     }
 
     public boolean isIdentity() {
@@ -88,8 +124,116 @@ public abstract class AbstractConverter implements UnitConverter {
 
     public abstract AbstractConverter inverse();
 
+    /**
+     * Returns the inverse of this converter, computed by {@link #computeInverse()} on first use and cached in both directions:
+     * the inverse of the inverse is this converter. Converters implement {@link #inverse()} with this method to avoid
+     * recomputing the inverse of the converters of the unit tables.
+     *
+     * <p> The cache is not synchronized. Converters are immutable and their state is held in final fields,
+     *     so an inverse read by another thread is always fully constructed; threads racing on the first
+     *     call at worst compute the inverse twice.</p>
+     *
+     * @return the inverse of this converter.
+     */
+    protected final AbstractConverter cachedInverse() {
+        AbstractConverter inv = inverse;
+        if (inv == null) {
+            inv = computeInverse();
+            inv.inverse = this;
+            inverse = inv;
+        }
+        return inv;
+    }
+
+    /**
+     * Computes the inverse of this converter for {@link #cachedInverse()}. Converters using the cache override this method.
+     *
+     * @return a new inverse of this converter.
+     * @throws UnsupportedOperationException if not overridden.
+     */
+    protected AbstractConverter computeInverse() {
+        throw new UnsupportedOperationException("Inverse of " + this);
+    }
+
     public UnitConverter concatenate(UnitConverter converter) {
-        return (converter == IDENTITY) ? this : new Pair(this, converter);
+        if (converter instanceof AbstractConverter) {
+            return concatenate((AbstractConverter) converter);
+        }
+        return new Pair(this, converter);
+    }
+
+    /**
+     * Returns a converter equivalent to the specified one, with every run of consecutive affine
+     * {@link #getConversionSteps() conversion steps} folded into a single step.
+     * A chain made of multiplying, adding and affine converters only results in one converter.
+     *
+     * @param cvtr the converter to normalize.
+     * @return the normalized converter.
+     * @since 2.2
+     */
+    public static AbstractConverter normalize(UnitConverter cvtr) {
+        final List<? extends UnitConverter> steps = cvtr.getConversionSteps();
+        AbstractConverter result = IDENTITY;
+        double scale = 1.0;
+        double offset = 0.0;
+        // Steps are listed left to right, the rightmost one is applied first.
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            final UnitConverter step = steps.get(i);
+            if (step instanceof AbstractConverter && ((AbstractConverter) step).isAffine()) {
+                final AbstractConverter affine = (AbstractConverter) step;
+                offset = affine.affineScale() * offset + affine.affineOffset();
+                scale = affine.affineScale() * scale;
+            } else if (!step.isIdentity()) {
+                result = prepend(AffineConverter.of(scale, offset), result);
+                result = prepend(step, result);
+                scale = 1.0;
+                offset = 0.0;
+            }
+        }
+        return prepend(AffineConverter.of(scale, offset), result);
+    }
+
+    /**
+     * Returns the converter applying <code>right</code> and then <code>left</code>, without folding.
+     */
+    private static AbstractConverter prepend(UnitConverter left, AbstractConverter right) {
+        if (left.isIdentity()) {
+            return right;
+        }
+        if (right == IDENTITY) {
+            return left instanceof AbstractConverter ? (AbstractConverter) left : new Pair(left, IDENTITY);
+        }
+        return new Pair(left, right);
+    }
+
+    /**
+     * Folds two affine converters into one, <code>left(right(x)) = sl * (sr * x + or) + ol</code>.
+     */
+    private static AbstractConverter compose(AbstractConverter left, AbstractConverter right) {
+        return AffineConverter.of(left.affineScale() * right.affineScale(),
+                left.affineScale() * right.affineOffset() + left.affineOffset());
+    }
+
+    /**
+     * Indicates if this converter computes <code>affineScale() * x + affineOffset()</code> and can be folded
+     * with adjacent affine converters.
+     */
+    boolean isAffine() {
+        return false;
+    }
+
+    /**
+     * The scale factor of an {@link #isAffine() affine} converter.
+     */
+    double affineScale() {
+        return 1.0;
+    }
+
+    /**
+     * The offset of an {@link #isAffine() affine} converter, added after scaling.
+     */
+    double affineOffset() {
+        return 0.0;
     }
 
     public List<? extends UnitConverter> getConversionSteps() {
@@ -98,12 +242,253 @@ public abstract class AbstractConverter implements UnitConverter {
         return converters;
     }
 
+    /**
+     * Converts a number, keeping its numeric kind where the conversion allows it:
+     * <ul>
+     * <li><code>Double</code> and <code>Float</code> values are converted by {@link #convert(double)}.</li>
+     * <li><code>Long</code>, <code>Integer</code>, <code>Short</code> and <code>Byte</code> values result in a
+     * <code>Long</code> if the conversion of that value is exact and fits, for example multiplying by an integral factor;
+     * otherwise in a <code>Double</code>.</li>
+     * <li><code>BigDecimal</code> and <code>BigInteger</code> values are converted by {@link #convert(BigDecimal, MathContext)}
+     * with {@link MathContext#DECIMAL128}.</li>
+     * <li>Other numbers are converted through their <code>double</code> value.</li>
+     * </ul>
+     *
+     * @param value the value to convert.
+     * @return the converted value.
+     */
     public Number convert(Number value) {
-        return convert(Double.valueOf(value.doubleValue()));
+        if (value instanceof Double || value instanceof Float) {
+            return convert(value.doubleValue());
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return convertIntegral(value.longValue());
+        }
+        if (value instanceof BigDecimal) {
+            return convert((BigDecimal) value, MathContext.DECIMAL128);
+        }
+        if (value instanceof BigInteger) {
+            return convert(new BigDecimal((BigInteger) value), MathContext.DECIMAL128);
+        }
+        return convert(value.doubleValue());
+    }
+
+    /**
+     * Converts an integral value, resulting in a <code>Long</code> if the conversion is exact and fits.
+     * This implementation handles {@link #isAffine() affine} converters with integral scale and offset.
+     */
+    Number convertIntegral(long value) {
+        if (isAffine()) {
+            final double scale = affineScale();
+            final double offset = affineOffset();
+            if (isLong(scale) && isLong(offset)) {
+                try {
+                    return Long.valueOf(Math.addExact(Math.multiplyExact(value, (long) scale), (long) offset));
+                } catch (ArithmeticException e) {
+                    // Too large for long, converted as double.
+                }
+            }
+        }
+        return convert((double) value);
+    }
+
+    private static boolean isLong(double d) {
+        return d == (long) d && Math.abs(d) < 0x1p63;
+    }
+
+    /**
+     * Converts a decimal value, rounding according to the specified context.
+     * {@link #isAffine() Affine} converters multiply by the shortest decimal representation of their
+     * <code>double</code> scale and add that of their offset, other converters go through {@link #convert(double)}.
+     *
+     * @param value the value to convert.
+     * @param ctx the context to round with.
+     * @return the converted value.
+     * @throws ArithmeticException if the result is not finite.
+     * @since 2.2
+     */
+    public BigDecimal convert(BigDecimal value, MathContext ctx) {
+        if (isAffine()) {
+            final double scale = affineScale();
+            final double offset = affineOffset();
+            BigDecimal result = value;
+            if (scale != 1.0) {
+                result = result.multiply(BigDecimal.valueOf(scale), ctx);
+            }
+            if (offset != 0.0) {
+                result = result.add(BigDecimal.valueOf(offset), ctx);
+            }
+            return result;
+        }
+        final double result = convert(value.doubleValue());
+        if (Double.isNaN(result) || Double.isInfinite(result)) {
+            throw new ArithmeticException(this + " of " + value + " is not finite");
+        }
+        return new BigDecimal(result, ctx);
     }
 
     public abstract double convert(double value);
-    		    
+
+    /**
+     * Converts <code>len</code> values of <code>src</code> starting at <code>srcOff</code> and
+     * stores the results in <code>dst</code> starting at <code>dstOff</code>.
+     * Both arrays may be the same, the ranges are allowed to overlap.
+     *
+     * @param src the values to convert.
+     * @param srcOff the index of the first value to convert.
+     * @param dst the destination of the converted values.
+     * @param dstOff the index the first converted value is stored at.
+     * @param len the number of values to convert.
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array.
+     * @since 2.2
+     */
+    public final void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkRange(src.length, srcOff, len);
+        checkRange(dst.length, dstOff, len);
+        if (len == 0) {
+            return;
+        }
+        if (src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+            // Destination overlaps values not read yet, move them out of the way first.
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            srcOff = dstOff;
+        }
+        convertRange(src, srcOff, dst, dstOff, len);
+    }
+
+    /**
+     * Converts <code>len</code> values of the specified array in place.
+     *
+     * @param values the values to convert.
+     * @param off the index of the first value to convert.
+     * @param len the number of values to convert.
+     * @throws IndexOutOfBoundsException if the range exceeds the bounds of the array.
+     * @since 2.2
+     */
+    public final void convert(double[] values, int off, int len) {
+        convert(values, off, values, off, len);
+    }
+
+    /**
+     * Converts all values of the specified array in place.
+     *
+     * @param values the values to convert.
+     * @since 2.2
+     */
+    public final void convert(double[] values) {
+        convertRange(values, 0, values, 0, values.length);
+    }
+
+    /**
+     * Converts the remaining values of <code>src</code> and writes them to <code>dst</code>,
+     * advancing the position of both buffers like {@link DoubleBuffer#put(DoubleBuffer)}.
+     *
+     * @param src the values to convert.
+     * @param dst the destination of the converted values.
+     * @throws BufferOverflowException if <code>dst</code> has less space remaining than <code>src</code> has values.
+     * @throws IllegalArgumentException if both buffers are the same.
+     * @since 2.2
+     */
+    public final void convert(DoubleBuffer src, DoubleBuffer dst) {
+        if (src == dst) {
+            throw new IllegalArgumentException("The source buffer cannot be the destination");
+        }
+        final int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        final int srcPos = src.position();
+        final int dstPos = dst.position();
+        if (src.hasArray() && dst.hasArray()) {
+            convert(src.array(), src.arrayOffset() + srcPos, dst.array(), dst.arrayOffset() + dstPos, len);
+            src.position(srcPos + len);
+            dst.position(dstPos + len);
+        } else {
+            final double[] chunk = new double[Math.min(len, BUFFER_CHUNK)];
+            for (int done = 0; done < len; done += chunk.length) {
+                final int n = Math.min(chunk.length, len - done);
+                src.get(chunk, 0, n);
+                convertRange(chunk, 0, chunk, 0, n);
+                dst.put(chunk, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Converts the values between position and limit of the specified buffer in place.
+     * Position and limit of the buffer are not modified.
+     *
+     * @param values the values to convert.
+     * @since 2.2
+     */
+    public final void convert(DoubleBuffer values) {
+        final int pos = values.position();
+        final int len = values.remaining();
+        if (values.hasArray()) {
+            convertRange(values.array(), values.arrayOffset() + pos, values.array(), values.arrayOffset() + pos, len);
+        } else {
+            final double[] chunk = new double[Math.min(len, BUFFER_CHUNK)];
+            for (int done = 0; done < len; done += chunk.length) {
+                final int n = Math.min(chunk.length, len - done);
+                values.get(chunk, 0, n);
+                convertRange(chunk, 0, chunk, 0, n);
+                values.position(pos + done);
+                values.put(chunk, 0, n);
+            }
+            values.position(pos);
+        }
+    }
+
+    /**
+     * Converts a range of values, invoked by the bulk <code>convert</code> methods after checking the bounds.
+     * The default implementation calls {@link #convert(double)} for every element; subclasses should override it
+     * with a loop over their own arithmetic, which the JIT can unroll and vectorize.
+     * <p>
+     * Either the ranges are identical (in place conversion) or reading and writing front to back never
+     * overwrites a value before it has been read.
+     * </p>
+     *
+     * @param src the values to convert.
+     * @param srcOff the index of the first value to convert.
+     * @param dst the destination of the converted values.
+     * @param dstOff the index the first converted value is stored at.
+     * @param len the number of values to convert.
+     * @since 2.2
+     */
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = convert(src[srcOff + i]);
+        }
+    }
+
+    /**
+     * Converts <code>len</code> values by any converter, using its range conversion if it is one of ours.
+     * Unlike {@link #convert(double[], int, double[], int, int)}, neither the bounds nor overlapping ranges are checked.
+     *
+     * @param cvtr the converter.
+     * @param src the values to convert.
+     * @param srcOff the index of the first value to convert.
+     * @param dst the destination of the converted values, not overlapping the source range.
+     * @param dstOff the index the first converted value is stored at.
+     * @param len the number of values to convert.
+     * @since 2.2
+     */
+    public static void convertRange(UnitConverter cvtr, double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        if (cvtr instanceof AbstractConverter) {
+            ((AbstractConverter) cvtr).convertRange(src, srcOff, dst, dstOff, len);
+        } else {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = cvtr.convert(src[srcOff + i]);
+            }
+        }
+    }
+
+    private static void checkRange(int length, int off, int len) {
+        if ((off | len) < 0 || len > length - off) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + length);
+        }
+    }
+
     /**
      * This class represents the identity converter (singleton).
      */
@@ -124,6 +509,27 @@ public abstract class AbstractConverter implements UnitConverter {
             return value;
         }
 
+        @Override
+        public Number convert(Number value) {
+            return value;
+        }
+
+        @Override
+        protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+            if (src != dst || srcOff != dstOff) {
+                System.arraycopy(src, srcOff, dst, dstOff, len);
+            }
+        }
+
+        @Override
+        boolean isAffine() {
+            return true;
+        }
+
+        @Override
+        public AbstractConverter concatenate(AbstractConverter that) {
+            return that;
+        }
 
         @Override
         public UnitConverter concatenate(UnitConverter converter) {
@@ -202,6 +608,26 @@ public abstract class AbstractConverter implements UnitConverter {
             return left.convert(right.convert(value));
         }
 
+        @Override
+        public Number convert(Number value) {
+            return left.convert(right.convert(value));
+        }
+
+        @Override
+        public BigDecimal convert(BigDecimal value, MathContext ctx) {
+            if (left instanceof AbstractConverter && right instanceof AbstractConverter) {
+                return ((AbstractConverter) left).convert(((AbstractConverter) right).convert(value, ctx), ctx);
+            }
+            return super.convert(value, ctx);
+        }
+
+        @Override
+        protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+            // One pass per step instead of a nested call per value.
+            convertRange(right, src, srcOff, dst, dstOff, len);
+            convertRange(left, dst, dstOff, dst, dstOff, len);
+        }
+
         @Override
         public boolean equals(Object cvtr) {
             if (this == cvtr) return true;
@@ -0,0 +1,143 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+/**
+ * <p> This class represents a converter adding a constant offset to numeric values
+ *     (<code>double</code> based).</p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class AddConverter extends AbstractConverter {
+
+    /**
+     * Holds the offset.
+     */
+    private final double offset;
+
+    /**
+     * Creates an additive converter having the specified offset.
+     *
+     * @param  offset the offset value.
+     * @throws IllegalArgumentException if offset is <code>0.0</code>
+     *         (would result in identity converter).
+     */
+    public AddConverter(double offset) {
+        if (offset == 0.0)
+            throw new IllegalArgumentException("Would result in identity converter");
+        this.offset = offset;
+    }
+
+    /**
+     * Returns a converter adding the specified offset, the {@link #IDENTITY identity} for <code>0.0</code>.
+     *
+     * @param offset the offset value.
+     * @return the corresponding converter.
+     */
+    public static AbstractConverter of(double offset) {
+        return offset == 0.0 ? IDENTITY : new AddConverter(offset);
+    }
+
+    /**
+     * Returns the offset value for this add converter.
+     *
+     * @return the offset value.
+     */
+    public double getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the type of this converter.
+     *
+     * @return {@link ConversionType#ADD}.
+     */
+    public ConversionType getType() {
+        return ConversionType.ADD;
+    }
+
+    @Override
+    public AddConverter inverse() {
+        return (AddConverter) cachedInverse();
+    }
+
+    @Override
+    protected AddConverter computeInverse() {
+        return new AddConverter(-offset);
+    }
+
+    @Override
+    public double convert(double value) {
+        return value + offset;
+    }
+
+    @Override
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        BulkKernels.add(src, srcOff, dst, dstOff, len, offset);
+    }
+
+    @Override
+    boolean isAffine() {
+        return true;
+    }
+
+    @Override
+    double affineScale() {
+        return 1.0;
+    }
+
+    @Override
+    double affineOffset() {
+        return offset;
+    }
+
+    public boolean isLinear() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+        if (this == cvtr) return true;
+        if (!(cvtr instanceof AddConverter)) return false;
+        return Double.doubleToLongBits(offset) == Double.doubleToLongBits(((AddConverter) cvtr).offset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(offset);
+    }
+
+    @Override
+    public String toString() {
+        return "AddConverter(" + offset + ")";
+    }
+}
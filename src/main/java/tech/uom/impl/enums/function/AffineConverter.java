@@ -0,0 +1,218 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p> This class represents an affine converter <code>y = scale * x + offset</code>
+ *     (<code>double</code> based).</p>
+ *
+ * <p> Chains of multiplying and adding converters are folded into a single instance
+ *     of this class by {@link AbstractConverter#concatenate(AbstractConverter)}, so a
+ *     conversion costs one multiplication and one addition regardless of the length of the chain.</p>
+ *
+ * <p> The inverse of an affine converter computes <code>(x - offset) / scale</code> with the same scale and
+ *     offset rather than scaling by their rounded reciprocals, as the inverse of a {@link MultiplyConverter} does.</p>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class AffineConverter extends AbstractConverter {
+
+    /**
+     * Holds the scale factor, or the divisor if {@link #divide} is set.
+     */
+    private final double scale;
+
+    /**
+     * Holds the offset, added after scaling, or subtracted before dividing if {@link #divide} is set.
+     */
+    private final double offset;
+
+    /**
+     * Indicates if this converter computes <code>(x - offset) / scale</code>, as the inverse of an affine converter.
+     */
+    private final boolean divide;
+
+    /**
+     * Creates an affine converter with the specified scale factor and offset.
+     *
+     * @param  scale the scaling factor.
+     * @param  offset the offset added after scaling.
+     * @throws IllegalArgumentException if scale is <code>1.0</code> and offset is <code>0.0</code>
+     *         (would result in identity converter).
+     */
+    public AffineConverter(double scale, double offset) {
+        this(scale, offset, false);
+    }
+
+    private AffineConverter(double scale, double offset, boolean divide) {
+        if (scale == 1.0 && offset == 0.0)
+            throw new IllegalArgumentException("Would result in identity converter");
+        this.scale = scale;
+        this.offset = offset;
+        this.divide = divide;
+    }
+
+    /**
+     * Returns the simplest converter computing <code>scale * x + offset</code>: the {@link #IDENTITY identity},
+     * a {@link MultiplyConverter}, an {@link AddConverter} or an affine converter.
+     *
+     * @param scale the scaling factor.
+     * @param offset the offset added after scaling.
+     * @return the corresponding converter.
+     */
+    public static AbstractConverter of(double scale, double offset) {
+        if (offset == 0.0) {
+            return MultiplyConverter.of(scale);
+        }
+        if (scale == 1.0) {
+            return new AddConverter(offset);
+        }
+        return new AffineConverter(scale, offset);
+    }
+
+    /**
+     * Returns the scale factor of this converter. For the inverse of an affine converter this is the
+     * rounded reciprocal of the scale it divides by.
+     *
+     * @return the scale factor.
+     */
+    public double getScale() {
+        return divide ? 1.0 / scale : scale;
+    }
+
+    /**
+     * Returns the offset of this converter, added after scaling.
+     *
+     * @return the offset.
+     */
+    public double getOffset() {
+        return divide ? -offset / scale : offset;
+    }
+
+    /**
+     * Indicates if this converter computes <code>(x - {@link #getSubtrahend()}) / {@link #getDivisor()}</code>.
+     */
+    boolean isDivision() {
+        return divide;
+    }
+
+    /**
+     * Returns the divisor of a {@link #isDivision() dividing} converter.
+     */
+    double getDivisor() {
+        return scale;
+    }
+
+    /**
+     * Returns the value subtracted before dividing by a {@link #isDivision() dividing} converter.
+     */
+    double getSubtrahend() {
+        return offset;
+    }
+
+    @Override
+    public AffineConverter inverse() {
+        return (AffineConverter) cachedInverse();
+    }
+
+    @Override
+    protected AffineConverter computeInverse() {
+        return new AffineConverter(scale, offset, !divide);
+    }
+
+    @Override
+    public double convert(double value) {
+        return divide ? (value - offset) / scale : value * scale + offset;
+    }
+
+    /**
+     * Subtracts the offset and divides by the shortest decimal representation of the scale if this converter divides.
+     */
+    @Override
+    public BigDecimal convert(BigDecimal value, MathContext ctx) {
+        if (divide) {
+            return value.subtract(BigDecimal.valueOf(offset), ctx).divide(BigDecimal.valueOf(scale), ctx);
+        }
+        return super.convert(value, ctx);
+    }
+
+    @Override
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        if (divide) {
+            BulkKernels.affineInverse(src, srcOff, dst, dstOff, len, scale, offset);
+        } else {
+            BulkKernels.affine(src, srcOff, dst, dstOff, len, scale, offset);
+        }
+    }
+
+    @Override
+    boolean isAffine() {
+        return true;
+    }
+
+    @Override
+    double affineScale() {
+        return getScale();
+    }
+
+    @Override
+    double affineOffset() {
+        return getOffset();
+    }
+
+    public boolean isLinear() {
+        return offset == 0.0;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+        if (this == cvtr) return true;
+        if (!(cvtr instanceof AffineConverter)) return false;
+        AffineConverter that = (AffineConverter) cvtr;
+        return divide == that.divide && Double.doubleToLongBits(scale) == Double.doubleToLongBits(that.scale)
+                && Double.doubleToLongBits(offset) == Double.doubleToLongBits(that.offset);
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * Double.hashCode(scale) + Double.hashCode(offset)) * 31 + (divide ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return divide ? "AffineConverter((x - " + offset + ") / " + scale + ")"
+                : "AffineConverter(" + scale + ", " + offset + ")";
+    }
+}
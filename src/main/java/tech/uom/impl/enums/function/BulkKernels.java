@@ -0,0 +1,102 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+/**
+ * Arithmetic loops behind the bulk conversion of {@link MultiplyConverter}, {@link AddConverter} and {@link AffineConverter}.
+ * <p>
+ * This is the portable scalar version. The multi-release JAR replaces it on Java 17 and later with a version using the vector API when the
+ * <code>jdk.incubator.vector</code> module is present. Both compute exactly the same values.
+ * </p>
+ * <p>
+ * The source range may overlap the destination range only if it does not start before it.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.3, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class BulkKernels {
+
+    private BulkKernels() {
+    }
+
+    /**
+     * Indicates if ranges are processed with the vector API, never in this version.
+     */
+    static boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] * factor</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void multiply(double[] src, int srcOff, double[] dst, int dstOff, int len, double factor) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * factor;
+        }
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] / divisor</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void divide(double[] src, int srcOff, double[] dst, int dstOff, int len, double divisor) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] / divisor;
+        }
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] + offset</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void add(double[] src, int srcOff, double[] dst, int dstOff, int len, double offset) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] + offset;
+        }
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] * scale + offset</code> to <code>dst[dstOff + i]</code>, rounding the product before the sum.
+     */
+    static void affine(double[] src, int srcOff, double[] dst, int dstOff, int len, double scale, double offset) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * scale + offset;
+        }
+    }
+
+    /**
+     * Stores <code>(src[srcOff + i] - offset) / scale</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void affineInverse(double[] src, int srcOff, double[] dst, int dstOff, int len, double scale, double offset) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = (src[srcOff + i] - offset) / scale;
+        }
+    }
+}
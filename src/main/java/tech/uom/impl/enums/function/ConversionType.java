@@ -30,6 +30,9 @@
 package tech.uom.impl.enums.function;
 
 /**
+ * The kinds of elementary conversions, see {@link AddConverter}, {@link MultiplyConverter}, {@link ExpConverter} and
+ * {@link LogConverter}.
+ *
  * @author Werner Keil
  *
  */
@@ -0,0 +1,270 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+import javax.measure.UnitConverter;
+
+/**
+ * <p> Compiles a chain of converters into a single converter, whose {@link UnitConverter#convert(double)} runs the
+ *     whole chain as one method.</p>
+ *
+ * <p> The chain is first {@link AbstractConverter#normalize(UnitConverter) normalized}, folding runs of affine steps.
+ *     The remaining steps are composed with {@link MethodHandles} combinators into one handle, each step a static
+ *     method with its factor bound as an argument. A conversion is then one indirect call through that handle instead
+ *     of one virtual call per step of the chain. The handle is held in an instance field, so the JIT does not treat
+ *     it as a constant: it neither inlines the handle into the caller nor folds the factors into the code.</p>
+ *
+ * <p> Compilation has a cost, converters used for many conversions should be compiled once and reused.</p>
+ *
+ * @author Werner Keil
+ * @version 1.3, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class ConverterCompiler {
+
+    private static final MethodType DOUBLE_TO_DOUBLE = MethodType.methodType(double.class, double.class);
+    private static final MethodHandle MULTIPLY;
+    private static final MethodHandle DIVIDE;
+    private static final MethodHandle ADD;
+    private static final MethodHandle AFFINE;
+    private static final MethodHandle AFFINE_INVERSE;
+    private static final MethodHandle EXP;
+    private static final MethodHandle POW;
+    private static final MethodHandle LOG;
+    private static final MethodHandle LOG10;
+    private static final MethodHandle LOG_BASE;
+    private static final MethodHandle CONVERT;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodType twoArgs = MethodType.methodType(double.class, double.class, double.class);
+        try {
+            MULTIPLY = lookup.findStatic(ConverterCompiler.class, "multiply", twoArgs);
+            DIVIDE = lookup.findStatic(ConverterCompiler.class, "divide", twoArgs);
+            ADD = lookup.findStatic(ConverterCompiler.class, "add", twoArgs);
+            AFFINE = lookup.findStatic(ConverterCompiler.class, "affine",
+                    MethodType.methodType(double.class, double.class, double.class, double.class));
+            AFFINE_INVERSE = lookup.findStatic(ConverterCompiler.class, "affineInverse",
+                    MethodType.methodType(double.class, double.class, double.class, double.class));
+            EXP = lookup.findStatic(Math.class, "exp", DOUBLE_TO_DOUBLE);
+            POW = lookup.findStatic(ConverterCompiler.class, "pow", twoArgs);
+            LOG = lookup.findStatic(Math.class, "log", DOUBLE_TO_DOUBLE);
+            LOG10 = lookup.findStatic(Math.class, "log10", DOUBLE_TO_DOUBLE);
+            LOG_BASE = lookup.findStatic(ConverterCompiler.class, "log", twoArgs);
+            CONVERT = lookup.findVirtual(UnitConverter.class, "convert", DOUBLE_TO_DOUBLE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private ConverterCompiler() {
+    }
+
+    /**
+     * Returns a converter equivalent to the specified one, computing the same values.
+     * Converters made up of a single step after normalization are returned as such, since they are already
+     * converted by a single method.
+     *
+     * @param cvtr the converter to compile.
+     * @return the compiled converter.
+     */
+    public static AbstractConverter compile(UnitConverter cvtr) {
+        if (cvtr instanceof CompiledConverter) {
+            return (AbstractConverter) cvtr;
+        }
+        final AbstractConverter normalized = AbstractConverter.normalize(cvtr);
+        final List<? extends UnitConverter> steps = normalized.getConversionSteps();
+        if (steps.size() <= 1) {
+            return normalized;
+        }
+        MethodHandle handle = null;
+        // Steps are listed left to right, the rightmost one is applied first.
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            final MethodHandle step = handleOf(steps.get(i));
+            handle = handle == null ? step : MethodHandles.filterReturnValue(handle, step);
+        }
+        return new CompiledConverter(normalized, handle);
+    }
+
+    /**
+     * Returns a <code>(double)double</code> handle computing the specified step.
+     */
+    private static MethodHandle handleOf(UnitConverter step) {
+        if (step instanceof MultiplyConverter) {
+            final MultiplyConverter multiply = (MultiplyConverter) step;
+            return multiply.isDivision() ? MethodHandles.insertArguments(DIVIDE, 1, multiply.getDivisor())
+                    : MethodHandles.insertArguments(MULTIPLY, 1, multiply.getFactor());
+        }
+        if (step instanceof AddConverter) {
+            return MethodHandles.insertArguments(ADD, 1, ((AddConverter) step).getOffset());
+        }
+        if (step instanceof AffineConverter) {
+            final AffineConverter affine = (AffineConverter) step;
+            return affine.isDivision()
+                    ? MethodHandles.insertArguments(AFFINE_INVERSE, 1, affine.getDivisor(), affine.getSubtrahend())
+                    : MethodHandles.insertArguments(AFFINE, 1, affine.getScale(), affine.getOffset());
+        }
+        if (step instanceof ExpConverter) {
+            final double base = ((ExpConverter) step).getBase();
+            return base == Math.E ? EXP : MethodHandles.insertArguments(POW, 1, base);
+        }
+        if (step instanceof LogConverter) {
+            final double base = ((LogConverter) step).getBase();
+            if (base == Math.E) {
+                return LOG;
+            }
+            return base == 10.0 ? LOG10 : MethodHandles.insertArguments(LOG_BASE, 1, Math.log(base));
+        }
+        return CONVERT.bindTo(step);
+    }
+
+    private static double multiply(double value, double factor) {
+        return value * factor;
+    }
+
+    private static double divide(double value, double divisor) {
+        return value / divisor;
+    }
+
+    private static double add(double value, double offset) {
+        return value + offset;
+    }
+
+    private static double affine(double value, double scale, double offset) {
+        return value * scale + offset;
+    }
+
+    private static double affineInverse(double value, double scale, double offset) {
+        return (value - offset) / scale;
+    }
+
+    private static double pow(double value, double base) {
+        return Math.pow(base, value);
+    }
+
+    private static double log(double value, double logOfBase) {
+        return Math.log(value) / logOfBase;
+    }
+
+    /**
+     * A converter running a compiled chain, equal to other compiled converters of the same chain.
+     */
+    private static final class CompiledConverter extends AbstractConverter {
+
+        /**
+         * Holds the normalized chain.
+         */
+        private final AbstractConverter source;
+
+        /**
+         * Holds the composed <code>(double)double</code> handle.
+         */
+        private final MethodHandle handle;
+
+        CompiledConverter(AbstractConverter source, MethodHandle handle) {
+            this.source = source;
+            this.handle = handle;
+        }
+
+        @Override
+        public double convert(double value) {
+            try {
+                return (double) handle.invokeExact(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // UnitConverter.convert(double) declares no checked exception.
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        Number convertIntegral(long value) {
+            return source.convertIntegral(value);
+        }
+
+        @Override
+        public BigDecimal convert(BigDecimal value, MathContext ctx) {
+            return source.convert(value, ctx);
+        }
+
+        @Override
+        protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+            convertRange(source, src, srcOff, dst, dstOff, len);
+        }
+
+        @Override
+        public AbstractConverter inverse() {
+            return cachedInverse();
+        }
+
+        @Override
+        protected AbstractConverter computeInverse() {
+            return compile(source.inverse());
+        }
+
+        @Override
+        public List<? extends UnitConverter> getConversionSteps() {
+            return source.getConversionSteps();
+        }
+
+        @Override
+        public boolean isLinear() {
+            return source.isLinear();
+        }
+
+        @Override
+        public boolean equals(Object cvtr) {
+            if (this == cvtr) return true;
+            if (!(cvtr instanceof CompiledConverter)) return false;
+            return source.equals(((CompiledConverter) cvtr).source);
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "CompiledConverter(" + source + ")";
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+/**
+ * <p> This class represents an exponential converter <code>y = base<sup>x</sup></code>
+ *     (<code>double</code> based). Its inverse is the {@link LogConverter} of the same base.</p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class ExpConverter extends AbstractConverter {
+
+    /**
+     * Holds the exponent base.
+     */
+    private final double base;
+
+    /**
+     * Creates an exponential converter using the specified base.
+     *
+     * @param  base the exponent base (e.g. <code>Math.E</code> for the natural exponent).
+     * @throws IllegalArgumentException if base is not a positive number different from <code>1.0</code>.
+     */
+    public ExpConverter(double base) {
+        if (!(base > 0.0) || base == 1.0 || base == Double.POSITIVE_INFINITY)
+            throw new IllegalArgumentException("Invalid exponent base: " + base);
+        this.base = base;
+    }
+
+    /**
+     * Returns the exponent base of this converter.
+     *
+     * @return the exponent base.
+     */
+    public double getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the type of this converter.
+     *
+     * @return {@link ConversionType#EXPONENT}.
+     */
+    public ConversionType getType() {
+        return ConversionType.EXPONENT;
+    }
+
+    @Override
+    public LogConverter inverse() {
+        return (LogConverter) cachedInverse();
+    }
+
+    @Override
+    protected LogConverter computeInverse() {
+        return new LogConverter(base);
+    }
+
+    @Override
+    public AbstractConverter concatenate(AbstractConverter that) {
+        // exp(log(x)) = x for the positive values the logarithm is defined on.
+        if (that instanceof LogConverter && ((LogConverter) that).getBase() == base) {
+            return IDENTITY;
+        }
+        return super.concatenate(that);
+    }
+
+    @Override
+    public double convert(double value) {
+        return base == Math.E ? Math.exp(value) : Math.pow(base, value);
+    }
+
+    @Override
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        final double b = base;
+        if (b == Math.E) {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = Math.exp(src[srcOff + i]);
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = Math.pow(b, src[srcOff + i]);
+            }
+        }
+    }
+
+    public boolean isLinear() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+        if (this == cvtr) return true;
+        if (!(cvtr instanceof ExpConverter)) return false;
+        return Double.doubleToLongBits(base) == Double.doubleToLongBits(((ExpConverter) cvtr).base);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(base) ^ 0x45;
+    }
+
+    @Override
+    public String toString() {
+        return "ExpConverter(" + base + ")";
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+/**
+ * <p> This class represents a logarithmic converter <code>y = log<sub>base</sub>(x)</code>
+ *     (<code>double</code> based). Its inverse is the {@link ExpConverter} of the same base.</p>
+ *
+ * <p> Natural and decimal logarithms use {@link Math#log(double)} and {@link Math#log10(double)},
+ *     other bases divide by the precomputed logarithm of the base.</p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class LogConverter extends AbstractConverter {
+
+    /**
+     * Holds the logarithmic base.
+     */
+    private final double base;
+
+    /**
+     * Holds the natural logarithm of the base.
+     */
+    private final double logOfBase;
+
+    /**
+     * Creates a logarithmic converter having the specified base.
+     *
+     * @param  base the logarithmic base (e.g. <code>Math.E</code> for the natural logarithm).
+     * @throws IllegalArgumentException if base is not a positive number different from <code>1.0</code>.
+     */
+    public LogConverter(double base) {
+        if (!(base > 0.0) || base == 1.0 || base == Double.POSITIVE_INFINITY)
+            throw new IllegalArgumentException("Invalid logarithmic base: " + base);
+        this.base = base;
+        this.logOfBase = Math.log(base);
+    }
+
+    /**
+     * Returns the logarithmic base of this converter.
+     *
+     * @return the logarithmic base.
+     */
+    public double getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the type of this converter.
+     *
+     * @return {@link ConversionType#LOG}.
+     */
+    public ConversionType getType() {
+        return ConversionType.LOG;
+    }
+
+    @Override
+    public ExpConverter inverse() {
+        return (ExpConverter) cachedInverse();
+    }
+
+    @Override
+    protected ExpConverter computeInverse() {
+        return new ExpConverter(base);
+    }
+
+    @Override
+    public AbstractConverter concatenate(AbstractConverter that) {
+        // log(exp(x)) = x
+        if (that instanceof ExpConverter && ((ExpConverter) that).getBase() == base) {
+            return IDENTITY;
+        }
+        return super.concatenate(that);
+    }
+
+    @Override
+    public double convert(double value) {
+        if (base == Math.E) {
+            return Math.log(value);
+        }
+        if (base == 10.0) {
+            return Math.log10(value);
+        }
+        return Math.log(value) / logOfBase;
+    }
+
+    @Override
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        if (base == Math.E) {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = Math.log(src[srcOff + i]);
+            }
+        } else if (base == 10.0) {
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = Math.log10(src[srcOff + i]);
+            }
+        } else {
+            final double l = logOfBase;
+            for (int i = 0; i < len; i++) {
+                dst[dstOff + i] = Math.log(src[srcOff + i]) / l;
+            }
+        }
+    }
+
+    public boolean isLinear() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+        if (this == cvtr) return true;
+        if (!(cvtr instanceof LogConverter)) return false;
+        return Double.doubleToLongBits(base) == Double.doubleToLongBits(((LogConverter) cvtr).base);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(base) ^ 0x4C;
+    }
+
+    @Override
+    public String toString() {
+        return "LogConverter(" + base + ")";
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p> This class represents a converter multiplying numeric values by a constant
+ *     scaling factor (<code>double</code> based).</p>
+ *
+ * <p> The inverse of a multiplying converter divides by the same factor rather than
+ *     multiplying by its rounded reciprocal, so each direction is correctly rounded and
+ *     converting a value forth and back does not drift.</p>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class MultiplyConverter extends AbstractConverter {
+
+    /**
+     * Holds the scale factor, or the divisor if {@link #divide} is set.
+     */
+    private final double factor;
+
+    /**
+     * Indicates if values are divided by {@link #factor}, as by the inverse of a multiplying converter.
+     */
+    private final boolean divide;
+
+    /**
+     * Creates a multiply converter with the specified scale factor.
+     *
+     * @param  factor the scaling factor.
+     * @throws IllegalArgumentException if coefficient is <code>1.0</code>
+     *        (would result in identity converter)
+     */
+    public MultiplyConverter(double factor) {
+        this(factor, false);
+    }
+
+    private MultiplyConverter(double factor, boolean divide) {
+        if (factor == 1.0)
+            throw new IllegalArgumentException("Would result in identity converter");
+        this.factor = factor;
+        this.divide = divide;
+    }
+
+    /**
+     * Returns a converter multiplying by the specified factor, the {@link #IDENTITY identity} for <code>1.0</code>.
+     *
+     * @param factor the scaling factor.
+     * @return the corresponding converter.
+     */
+    public static AbstractConverter of(double factor) {
+        return factor == 1.0 ? IDENTITY : new MultiplyConverter(factor);
+    }
+
+    /**
+     * Returns the scale factor of this converter. For the inverse of a multiplying converter this is the
+     * rounded reciprocal of the factor it divides by.
+     *
+     * @return the scale factor.
+     */
+    public double getFactor() {
+        return divide ? 1.0 / factor : factor;
+    }
+
+    /**
+     * Indicates if this converter divides by {@link #getDivisor()} instead of multiplying.
+     */
+    boolean isDivision() {
+        return divide;
+    }
+
+    /**
+     * Returns the divisor of a {@link #isDivision() dividing} converter.
+     */
+    double getDivisor() {
+        return factor;
+    }
+
+    /**
+     * Returns the type of this converter.
+     *
+     * @return {@link ConversionType#MULTIPLY}.
+     */
+    public ConversionType getType() {
+        return ConversionType.MULTIPLY;
+    }
+
+    @Override
+    public MultiplyConverter inverse() {
+        return (MultiplyConverter) cachedInverse();
+    }
+
+    @Override
+    protected MultiplyConverter computeInverse() {
+        return new MultiplyConverter(factor, !divide);
+    }
+
+    @Override
+    public double convert(double value) {
+        return divide ? value / factor : value * factor;
+    }
+
+    /**
+     * Divides by the shortest decimal representation of the divisor if this converter divides.
+     */
+    @Override
+    public BigDecimal convert(BigDecimal value, MathContext ctx) {
+        if (divide) {
+            return value.divide(BigDecimal.valueOf(factor), ctx);
+        }
+        return super.convert(value, ctx);
+    }
+
+    @Override
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        if (divide) {
+            BulkKernels.divide(src, srcOff, dst, dstOff, len, factor);
+        } else {
+            BulkKernels.multiply(src, srcOff, dst, dstOff, len, factor);
+        }
+    }
+
+    @Override
+    boolean isAffine() {
+        return true;
+    }
+
+    @Override
+    double affineScale() {
+        return getFactor();
+    }
+
+    @Override
+    double affineOffset() {
+        return 0.0;
+    }
+
+    public boolean isLinear() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+        if (this == cvtr) return true;
+        if (!(cvtr instanceof MultiplyConverter)) return false;
+        final MultiplyConverter that = (MultiplyConverter) cvtr;
+        return divide == that.divide && Double.doubleToLongBits(factor) == Double.doubleToLongBits(that.factor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(factor) * 31 + (divide ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiplyConverter(" + (divide ? "1/" : "") + factor + ")";
+    }
+}
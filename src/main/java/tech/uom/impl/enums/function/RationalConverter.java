@@ -0,0 +1,289 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <p> This class represents a converter multiplying numeric values by an exact rational
+ *     factor <code>dividend / divisor</code> (<code>long</code> based).</p>
+ *
+ * <p> Integral values are converted exactly by {@link #convertExact(long)}, with one checked
+ *     multiplication and one division, instead of going through <code>double</code> which
+ *     loses precision above 2<sup>53</sup>. <code>double</code> values are multiplied by the
+ *     nearest <code>double</code> of the factor, like a {@link MultiplyConverter}.</p>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class RationalConverter extends AbstractConverter {
+
+    /**
+     * Holds the dividend of the factor, reduced.
+     */
+    private final long dividend;
+
+    /**
+     * Holds the divisor of the factor, reduced and positive.
+     */
+    private final long divisor;
+
+    /**
+     * Holds the factor as <code>double</code>.
+     */
+    private final double factor;
+
+    /**
+     * Creates a rational converter with the specified dividend and divisor. The fraction is reduced to lowest terms.
+     *
+     * @param  dividend the dividend of the factor.
+     * @param  divisor the divisor of the factor.
+     * @throws IllegalArgumentException if dividend or divisor is <code>0</code>, or both are equal
+     *         (would result in identity converter), or if the reduced dividend or divisor is <code>Long.MIN_VALUE</code>
+     *         (its sign cannot be changed).
+     */
+    public RationalConverter(long dividend, long divisor) {
+        if (dividend == 0 || divisor == 0)
+            throw new IllegalArgumentException("Zero dividend or divisor");
+        if (dividend == divisor)
+            throw new IllegalArgumentException("Would result in identity converter");
+        final long gcd = gcd(dividend, divisor);
+        long reducedDividend = dividend / gcd;
+        long reducedDivisor = divisor / gcd;
+        if (reducedDividend == Long.MIN_VALUE || reducedDivisor == Long.MIN_VALUE)
+            throw new IllegalArgumentException("Dividend or divisor out of range: " + dividend + "/" + divisor);
+        if (reducedDivisor < 0) {
+            reducedDividend = -reducedDividend;
+            reducedDivisor = -reducedDivisor;
+        }
+        this.dividend = reducedDividend;
+        this.divisor = reducedDivisor;
+        this.factor = (double) this.dividend / this.divisor;
+    }
+
+    /**
+     * Returns a converter multiplying by <code>dividend / divisor</code>, the {@link #IDENTITY identity} if both are equal.
+     *
+     * @param dividend the dividend of the factor.
+     * @param divisor the divisor of the factor.
+     * @return the corresponding converter.
+     * @throws IllegalArgumentException if dividend or divisor is <code>0</code>.
+     */
+    public static AbstractConverter of(long dividend, long divisor) {
+        return dividend == divisor && divisor != 0 ? IDENTITY : new RationalConverter(dividend, divisor);
+    }
+
+    /**
+     * Returns the positive greatest common divisor of two values, not both <code>Long.MIN_VALUE</code>. The remainders
+     * keep the sign of the values, so no magnitude is computed before the result, which is at most that of the other value.
+     */
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            final long r = a % b;
+            a = b;
+            b = r;
+        }
+        return Math.abs(a);
+    }
+
+    /**
+     * Returns the dividend of the factor, in lowest terms.
+     *
+     * @return the dividend.
+     */
+    public long getDividend() {
+        return dividend;
+    }
+
+    /**
+     * Returns the divisor of the factor, in lowest terms and always positive.
+     *
+     * @return the divisor.
+     */
+    public long getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * Returns the factor of this converter as <code>double</code>.
+     *
+     * @return the scale factor.
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Returns the type of this converter.
+     *
+     * @return {@link ConversionType#MULTIPLY}.
+     */
+    public ConversionType getType() {
+        return ConversionType.MULTIPLY;
+    }
+
+    @Override
+    public RationalConverter inverse() {
+        return (RationalConverter) cachedInverse();
+    }
+
+    @Override
+    protected RationalConverter computeInverse() {
+        return new RationalConverter(divisor, dividend);
+    }
+
+    /**
+     * Concatenates with another rational converter into an exact rational converter, as long as the product of
+     * the factors fits into <code>long</code>; otherwise or for other converters like the superclass.
+     */
+    @Override
+    public AbstractConverter concatenate(AbstractConverter that) {
+        if (that instanceof RationalConverter) {
+            final RationalConverter other = (RationalConverter) that;
+            // Cross-reduce first, so the products only overflow if the result does not fit.
+            final long g1 = gcd(Math.abs(dividend), other.divisor);
+            final long g2 = gcd(Math.abs(other.dividend), divisor);
+            try {
+                return of(Math.multiplyExact(dividend / g1, other.dividend / g2),
+                        Math.multiplyExact(divisor / g2, other.divisor / g1));
+            } catch (ArithmeticException e) {
+                // Falls back to the double factor.
+            }
+        }
+        return super.concatenate(that);
+    }
+
+    @Override
+    public double convert(double value) {
+        return value * factor;
+    }
+
+    /**
+     * Converts an integral value exactly, rounding toward zero if the result is not integral, like the conversions of
+     * {@link java.util.concurrent.TimeUnit}. <code>int</code> values are widened.
+     *
+     * @param value the value to convert.
+     * @return <code>value * dividend / divisor</code>.
+     * @throws ArithmeticException if <code>value * dividend</code> overflows <code>long</code>.
+     */
+    public long convertExact(long value) {
+        return Math.multiplyExact(value, dividend) / divisor;
+    }
+
+    /**
+     * Converts <code>len</code> integral values of <code>src</code> starting at <code>srcOff</code> exactly and
+     * stores the results in <code>dst</code> starting at <code>dstOff</code>, see {@link #convertExact(long)}.
+     * Both arrays may be the same as long as the ranges are identical or do not overlap.
+     *
+     * @param src the values to convert.
+     * @param srcOff the index of the first value to convert.
+     * @param dst the destination of the converted values.
+     * @param dstOff the index the first converted value is stored at.
+     * @param len the number of values to convert.
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array.
+     * @throws ArithmeticException if a product overflows <code>long</code>; the values before it are converted.
+     */
+    public void convertExact(long[] src, int srcOff, long[] dst, int dstOff, int len) {
+        if ((srcOff | dstOff | len) < 0 || len > src.length - srcOff || len > dst.length - dstOff) {
+            throw new IndexOutOfBoundsException();
+        }
+        final long dividend = this.dividend;
+        final long divisor = this.divisor;
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = Math.multiplyExact(src[srcOff + i], dividend) / divisor;
+        }
+    }
+
+    @Override
+    Number convertIntegral(long value) {
+        try {
+            final long product = Math.multiplyExact(value, dividend);
+            if (product % divisor == 0) {
+                return Long.valueOf(product / divisor);
+            }
+        } catch (ArithmeticException e) {
+            // Too large for long, converted as double.
+        }
+        return convert((double) value);
+    }
+
+    /**
+     * Multiplies by the dividend and divides by the divisor, rounding only once according to the specified context.
+     */
+    @Override
+    public BigDecimal convert(BigDecimal value, MathContext ctx) {
+        final BigDecimal product = value.multiply(BigDecimal.valueOf(dividend));
+        return divisor == 1 ? product.round(ctx) : product.divide(BigDecimal.valueOf(divisor), ctx);
+    }
+
+    @Override
+    protected void convertRange(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        BulkKernels.multiply(src, srcOff, dst, dstOff, len, factor);
+    }
+
+    @Override
+    boolean isAffine() {
+        return true;
+    }
+
+    @Override
+    double affineScale() {
+        return factor;
+    }
+
+    @Override
+    double affineOffset() {
+        return 0.0;
+    }
+
+    public boolean isLinear() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+        if (this == cvtr) return true;
+        if (!(cvtr instanceof RationalConverter)) return false;
+        final RationalConverter that = (RationalConverter) cvtr;
+        return dividend == that.dividend && divisor == that.divisor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(dividend) * 31 + Long.hashCode(divisor);
+    }
+
+    @Override
+    public String toString() {
+        return "RationalConverter(" + dividend + "/" + divisor + ")";
+    }
+}
@@ -31,20 +31,21 @@ package tech.uom.impl.enums.quantity;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
-import javax.measure.quantity.Area;
 import javax.measure.quantity.Dimensionless;
 
 import tech.uom.impl.enums.AbstractQuantity;
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.format.DoubleToDecimal;
 import tech.uom.impl.enums.format.UnitStyle;
 import tech.uom.impl.enums.unit.DimensionlessUnit;
 
 /**
  * @author Werner Keil
- * @version 0.7
+ * @version 1.1, $Date: 2026-10-18 $
  */
-public class DimensionlessQuantity extends AbstractQuantity<Dimensionless> implements Dimensionless {
+public class DimensionlessQuantity extends AbstractQuantity<Dimensionless> implements Dimensionless, DoubleQuantity<Dimensionless> {
 	private final double scalar;
-	private final Double value; // value in unit (Unit unit)
+	private final double value; // value in unit (Unit unit)
 
 	private final Unit unit;
 
@@ -60,60 +61,72 @@ public class DimensionlessQuantity extends AbstractQuantity<Dimensionless> imple
 	}
 	
 	public DimensionlessQuantity multiply(double v) {
-		return new DimensionlessQuantity(value * v, (DimensionlessUnit) unit);
+		return new DimensionlessQuantity(value * v, unit);
 	}
 
 	public DimensionlessQuantity divide(double v) {
-		return new DimensionlessQuantity(value / v, (DimensionlessUnit) unit);
+		return new DimensionlessQuantity(value / v, unit);
 	}
 
+	@SuppressWarnings("unchecked")
 	public DimensionlessQuantity convert(DimensionlessUnit newUnit) {
-		return new DimensionlessQuantity(scalar, newUnit);
+		return new DimensionlessQuantity(valueIn(this, newUnit), newUnit);
 	}
 
+	@SuppressWarnings("unchecked")
 	public Quantity<?> divide(Quantity<?> that) {
-		// TODO Auto-generated method stub
-		return null;
+		if (unit.isCompatible(that.getUnit())) {
+			return new DimensionlessQuantity(value / valueIn((Quantity) that, unit), DimensionlessUnit.ONE);
+		}
+		return divide(dimensionlessValue(that));
 	}
 
+	@SuppressWarnings("unchecked")
 	public Quantity<Dimensionless> to(Unit<Dimensionless> unit) {
-		// TODO Auto-generated method stub
-		return null;
+		if (this.unit.equals(unit)) {
+			return this;
+		}
+		return new DimensionlessQuantity(valueIn(this, unit), unit);
 	}
 
-	public Quantity<Dimensionless> subtract(Quantity<Dimensionless> that) {
-		// TODO Auto-generated method stub
-		return null;
+	@SuppressWarnings("unchecked")
+	public DimensionlessQuantity subtract(Quantity<Dimensionless> that) {
+		return new DimensionlessQuantity(value - valueIn(that, unit), unit);
 	}
 
-	public Quantity<Dimensionless> add(Quantity<Dimensionless> that) {
-		// TODO Auto-generated method stub
-		return null;
+	@SuppressWarnings("unchecked")
+	public DimensionlessQuantity add(Quantity<Dimensionless> that) {
+		return new DimensionlessQuantity(value + valueIn(that, unit), unit);
 	}
 
-	public Quantity<Dimensionless> divide(Number that) {
-		// TODO Auto-generated method stub
-		return null;
+	public DimensionlessQuantity divide(Number that) {
+		return divide(that.doubleValue());
 	}
 
 	public Quantity<Dimensionless> inverse() {
-		// TODO Auto-generated method stub
-		return null;
+		return new DimensionlessQuantity(1d / dimensionlessValue(this), DimensionlessUnit.ONE);
 	}
 
-	public Quantity<Dimensionless> multiply(Number that) {
-		// TODO Auto-generated method stub
-		return null;
+	public DimensionlessQuantity multiply(Number that) {
+		return multiply(that.doubleValue());
 	}
 
+	/**
+	 * Multiplies by a quantity, the product has the unit of that quantity if this one is dimensionless.
+	 */
+	@SuppressWarnings("unchecked")
 	public Quantity<?> multiply(Quantity<?> that) {
-		// TODO Auto-generated method stub
-		return null;
+		if (DimensionlessUnit.ONE.isCompatible(that.getUnit())) {
+			return multiply(dimensionlessValue(that));
+		}
+		return Quantities.getQuantity(dimensionlessValue(this) * that.getValue().doubleValue(), (Unit) that.getUnit());
 	}
 
-	public Area multiply(Dimensionless l) {
-		// TODO Auto-generated method stub
-		return null;
+	/**
+	 * Multiplies by another dimensionless quantity, the product keeps the unit of this one.
+	 */
+	public DimensionlessQuantity multiply(Dimensionless that) {
+		return multiply(dimensionlessValue(that));
 	}
 
 	@Override
@@ -121,16 +134,32 @@ public class DimensionlessQuantity extends AbstractQuantity<Dimensionless> imple
 		return value;
 	}
 
+	public double doubleValue() {
+		return value;
+	}
+
+	public double doubleValue(Unit<Dimensionless> unit) {
+		return doubleValueIn(unit);
+	}
+
+	public DimensionlessQuantity plus(double amount) {
+		return new DimensionlessQuantity(value + amount, unit);
+	}
+
+	public DimensionlessQuantity times(double factor) {
+		return multiply(factor);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public Unit<Dimensionless> getUnit() {
 		return unit;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public int compareTo(Quantity<Dimensionless> o) {
-		// TODO Auto-generated method stub
-		return 0;
+		return Double.compare(value, valueIn(o, unit));
 	}
 
 	@Override
@@ -141,30 +170,36 @@ public class DimensionlessQuantity extends AbstractQuantity<Dimensionless> imple
 
 	@Override
 	protected boolean eq(AbstractQuantity<Dimensionless> dq) {
-		// TODO Auto-generated method stub
-		return false;
+		return dq instanceof DimensionlessQuantity
+				&& Double.doubleToLongBits(value) == Double.doubleToLongBits(((DimensionlessQuantity) dq).value)
+				&& unit.equals(dq.getUnit());
 	}
 
 	@Override
 	protected boolean isZero() {
-		// TODO Auto-generated method stub
-		return false;
+		return 0d == value;
 	}
 
 	@Override
 	public String toString(boolean withUnit, boolean withSpace, int precision) {
-		// TODO Auto-generated method stub
-		return null;
+		final StringBuilder sb = new StringBuilder(DoubleToDecimal.MAX_CHARS + 4);
+		DoubleToDecimal.appendTo(value, sb);
+		final String symbol = unit.getSymbol();
+		if (withUnit && symbol != null && !symbol.isEmpty()) {
+			if (withSpace)
+				sb.append(' ');
+			sb.append(symbol);
+		}
+		return sb.toString();
 	}
 
 	@Override
 	protected String showInUnit(Unit<?> u, int precision, UnitStyle style) {
-		// TODO Auto-generated method stub
-		return null;
+		return showInUnit(u, value, precision, style);
 	}
 
 	@Override
 	public Quantity<Dimensionless> negate() {
-		return new DimensionlessQuantity(-value.doubleValue(), unit);
+		return new DimensionlessQuantity(-value, unit);
 	}
 }
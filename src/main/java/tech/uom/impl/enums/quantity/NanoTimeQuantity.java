@@ -0,0 +1,423 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Time;
+
+import tech.uom.impl.enums.AbstractQuantity;
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.format.UnitStyle;
+import tech.uom.impl.enums.unit.DimensionlessUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
+
+/**
+ * <p>
+ * A time quantity holding an exact <code>long</code> number of nanoseconds, like {@link Duration} and the <code>long</code>
+ * durations of <code>java.util.concurrent</code>. The unit only determines how the quantity is presented: converting it
+ * {@link #to(Unit) to} another unit keeps the nanoseconds, so no rounding occurs until the value is read.
+ * </p>
+ * <p>
+ * Additions and subtractions of such quantities are exact, the range being about 292 years. Scaling by a <code>double</code>
+ * computes the exact product or quotient of the nanoseconds and rounds it once to the nearest nanosecond, half away from
+ * zero. Every operation throws an <code>ArithmeticException</code> if the result overflows the
+ * range, rather than clamping it. Bridges to {@link Duration} and {@link java.util.concurrent.TimeUnit} work on the nanoseconds directly.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class NanoTimeQuantity extends AbstractQuantity<Time> implements Time, DoubleQuantity<Time> {
+
+	private final long nanos;
+
+	private final TimeUnit unit;
+
+	private NanoTimeQuantity(long nanos, TimeUnit unit) {
+		this.nanos = nanos;
+		this.unit = unit;
+	}
+
+	/**
+	 * Returns a quantity of the given amount of a time unit.
+	 *
+	 * @param amount
+	 *            the amount of <code>unit</code>.
+	 * @param unit
+	 *            the unit of the amount, also the unit of the quantity.
+	 * @return the corresponding quantity.
+	 * @throws ArithmeticException
+	 *             if the amount exceeds the range of <code>long</code> nanoseconds.
+	 */
+	public static NanoTimeQuantity of(long amount, TimeUnit unit) {
+		return new NanoTimeQuantity(unit.toNanos(amount), unit);
+	}
+
+	/**
+	 * Returns a quantity of the given amount of a <code>java.util.concurrent</code> time unit.
+	 *
+	 * @param amount
+	 *            the amount of <code>unit</code>.
+	 * @param unit
+	 *            the unit of the amount.
+	 * @return the corresponding quantity, in the corresponding {@link TimeUnit}.
+	 * @throws ArithmeticException
+	 *             if the amount exceeds the range of <code>long</code> nanoseconds.
+	 */
+	public static NanoTimeQuantity of(long amount, java.util.concurrent.TimeUnit unit) {
+		return of(amount, TimeUnit.of(unit));
+	}
+
+	/**
+	 * Returns a quantity of the given number of nanoseconds.
+	 *
+	 * @param nanos
+	 *            the nanoseconds.
+	 * @return the corresponding quantity, in {@link TimeUnit#NANOSECOND}.
+	 */
+	public static NanoTimeQuantity ofNanos(long nanos) {
+		return new NanoTimeQuantity(nanos, TimeUnit.NANOSECOND);
+	}
+
+	/**
+	 * Returns a quantity of the same length as a <code>Duration</code>.
+	 *
+	 * @param duration
+	 *            the duration.
+	 * @return the corresponding quantity, in {@link TimeUnit#NANOSECOND}.
+	 * @throws ArithmeticException
+	 *             if the duration exceeds the range of <code>long</code> nanoseconds.
+	 */
+	public static NanoTimeQuantity of(Duration duration) {
+		return new NanoTimeQuantity(duration.toNanos(), TimeUnit.NANOSECOND);
+	}
+
+	/**
+	 * Returns a quantity of the same length as another time quantity. Quantities with an integral value in a {@link TimeUnit} are
+	 * converted exactly, others are rounded to the nearest nanosecond.
+	 *
+	 * @param quantity
+	 *            the time quantity.
+	 * @return the corresponding quantity, in the unit of <code>quantity</code> if it is a {@link TimeUnit}, in
+	 *         {@link TimeUnit#NANOSECOND} otherwise.
+	 */
+	public static NanoTimeQuantity of(Quantity<Time> quantity) {
+		if (quantity instanceof NanoTimeQuantity) {
+			return (NanoTimeQuantity) quantity;
+		}
+		final Unit<Time> unit = quantity.getUnit();
+		return new NanoTimeQuantity(nanosOf(quantity), unit instanceof TimeUnit ? (TimeUnit) unit : TimeUnit.NANOSECOND);
+	}
+
+	/**
+	 * Returns the number of nanoseconds of a time quantity.
+	 */
+	private static long nanosOf(Quantity<Time> quantity) {
+		if (quantity instanceof NanoTimeQuantity) {
+			return ((NanoTimeQuantity) quantity).nanos;
+		}
+		final Number value = quantity.getValue();
+		if (quantity.getUnit() instanceof TimeUnit && (value instanceof Long || value instanceof Integer
+				|| value instanceof Short || value instanceof Byte)) {
+			return ((TimeUnit) quantity.getUnit()).toNanos(value.longValue());
+		}
+		return roundExact(valueIn(quantity, TimeUnit.NANOSECOND));
+	}
+
+	/**
+	 * Rounds to the nearest <code>long</code> like {@link Math#round(double)}, but throws instead of clamping.
+	 *
+	 * @throws ArithmeticException
+	 *             if the value is NaN or outside the range of <code>long</code>.
+	 */
+	private static long roundExact(double value) {
+		if (!(value >= -0x1p63 && value < 0x1p63)) {
+			throw new ArithmeticException("long overflow");
+		}
+		return Math.round(value);
+	}
+
+	/**
+	 * Indicates if a <code>double</code> is an integer within the range of <code>long</code>.
+	 */
+	private static boolean isLong(double value) {
+		return value >= -0x1p63 && value < 0x1p63 && value == (long) value;
+	}
+
+	/**
+	 * Multiplies nanoseconds by a factor and rounds the exact product to the nearest nanosecond, half away from zero.
+	 *
+	 * @throws ArithmeticException
+	 *             if the factor is not finite or the product is outside the range of <code>long</code>.
+	 */
+	private static long multiplyRounded(long nanos, double factor) {
+		if (isLong(factor)) {
+			return Math.multiplyExact(nanos, (long) factor);
+		}
+		if (Double.isNaN(factor) || Double.isInfinite(factor)) {
+			throw new ArithmeticException("long overflow");
+		}
+		return BigDecimal.valueOf(nanos).multiply(new BigDecimal(factor)).setScale(0, RoundingMode.HALF_UP).longValueExact();
+	}
+
+	/**
+	 * Divides nanoseconds by a divisor and rounds the quotient to the nearest nanosecond, half away from zero.
+	 *
+	 * @throws ArithmeticException
+	 *             if the divisor is zero or the quotient is outside the range of <code>long</code>.
+	 */
+	private static long divideRounded(long nanos, long divisor) {
+		if (divisor == -1L) {
+			return Math.negateExact(nanos);
+		}
+		long quotient = nanos / divisor;
+		// Compares the magnitudes as negative numbers, which cannot overflow even for Long.MIN_VALUE.
+		final long remainder = nanos % divisor;
+		final long negRemainder = remainder > 0 ? -remainder : remainder;
+		final long negDivisor = divisor > 0 ? -divisor : divisor;
+		if (negRemainder <= negDivisor - negRemainder) {
+			quotient += (nanos ^ divisor) < 0 ? -1 : 1;
+		}
+		return quotient;
+	}
+
+	/**
+	 * Divides nanoseconds by a divisor and rounds the exact quotient to the nearest nanosecond, half away from zero.
+	 *
+	 * @throws ArithmeticException
+	 *             if the divisor is zero or NaN or the quotient is outside the range of <code>long</code>.
+	 */
+	private static long divideRounded(long nanos, double divisor) {
+		if (isLong(divisor)) {
+			return divideRounded(nanos, (long) divisor);
+		}
+		if (Double.isNaN(divisor)) {
+			throw new ArithmeticException("Division by NaN");
+		}
+		if (Double.isInfinite(divisor)) {
+			return 0L;
+		}
+		return BigDecimal.valueOf(nanos).divide(new BigDecimal(divisor), 0, RoundingMode.HALF_UP).longValueExact();
+	}
+
+	/**
+	 * Returns the length of this quantity in nanoseconds.
+	 *
+	 * @return the nanoseconds.
+	 */
+	public long toNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Returns the length of this quantity in a <code>java.util.concurrent</code> time unit, truncating and saturating like
+	 * {@link java.util.concurrent.TimeUnit#convert(long, java.util.concurrent.TimeUnit)}.
+	 *
+	 * @param unit
+	 *            the unit to convert to.
+	 * @return the length in <code>unit</code>.
+	 */
+	public long to(java.util.concurrent.TimeUnit unit) {
+		return unit.convert(nanos, java.util.concurrent.TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns a <code>Duration</code> of the same length.
+	 *
+	 * @return the duration.
+	 */
+	public Duration toDuration() {
+		return Duration.ofNanos(nanos);
+	}
+
+	public boolean isZero() {
+		return nanos == 0L;
+	}
+
+	/**
+	 * Returns the value in the unit of this quantity, a <code>Long</code> if the nanoseconds are a whole multiple of the unit,
+	 * a <code>Double</code> otherwise.
+	 */
+	public Number getValue() {
+		final long unitNanos = unit.toNanos(1L);
+		if (nanos % unitNanos == 0) {
+			return Long.valueOf(nanos / unitNanos);
+		}
+		return Double.valueOf((double) nanos / unitNanos);
+	}
+
+	public double doubleValue() {
+		return (double) nanos / unit.toNanos(1L);
+	}
+
+	public double doubleValue(Unit<Time> unit) {
+		if (unit instanceof TimeUnit) {
+			return (double) nanos / ((TimeUnit) unit).toNanos(1L);
+		}
+		return valueIn(this, unit);
+	}
+
+	/**
+	 * Divides the nanoseconds by those of a {@link TimeUnit}, rounding only once.
+	 */
+	@Override
+	public double doubleValueIn(Unit<Time> unit) {
+		return doubleValue(unit);
+	}
+
+	/**
+	 * Divides the nanoseconds by those of a {@link TimeUnit} exactly, rounding toward zero.
+	 */
+	@Override
+	public long longValueIn(Unit<Time> unit) {
+		if (unit instanceof TimeUnit) {
+			return nanos / ((TimeUnit) unit).toNanos(1L);
+		}
+		return super.longValueIn(unit);
+	}
+
+	/**
+	 * Adds an amount of the unit of this quantity, rounded to the nearest nanosecond.
+	 */
+	public NanoTimeQuantity plus(double amount) {
+		return new NanoTimeQuantity(Math.addExact(nanos, roundExact(amount * unit.toNanos(1L))), unit);
+	}
+
+	public NanoTimeQuantity times(double factor) {
+		return new NanoTimeQuantity(multiplyRounded(nanos, factor), unit);
+	}
+
+	public Unit<Time> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the value in seconds.
+	 */
+	public Number getScalar() {
+		return Double.valueOf(nanos / 1e9);
+	}
+
+	public NanoTimeQuantity add(Quantity<Time> that) {
+		return new NanoTimeQuantity(Math.addExact(nanos, nanosOf(that)), unit);
+	}
+
+	public NanoTimeQuantity subtract(Quantity<Time> that) {
+		return new NanoTimeQuantity(Math.subtractExact(nanos, nanosOf(that)), unit);
+	}
+
+	/**
+	 * Multiplies exactly by integral factors, rounds to the nearest nanosecond, half away from zero, otherwise.
+	 */
+	public NanoTimeQuantity multiply(Number that) {
+		if (that instanceof Long || that instanceof Integer || that instanceof Short || that instanceof Byte) {
+			return new NanoTimeQuantity(Math.multiplyExact(nanos, that.longValue()), unit);
+		}
+		return new NanoTimeQuantity(multiplyRounded(nanos, that.doubleValue()), unit);
+	}
+
+	/**
+	 * Divides and rounds to the nearest nanosecond, half away from zero.
+	 */
+	public NanoTimeQuantity divide(Number that) {
+		if (that instanceof Long || that instanceof Integer || that instanceof Short || that instanceof Byte) {
+			return new NanoTimeQuantity(divideRounded(nanos, that.longValue()), unit);
+		}
+		return new NanoTimeQuantity(divideRounded(nanos, that.doubleValue()), unit);
+	}
+
+	public Quantity<?> multiply(Quantity<?> that) {
+		return multiply(dimensionlessValue(that));
+	}
+
+	@SuppressWarnings("unchecked")
+	public Quantity<?> divide(Quantity<?> that) {
+		if (unit.isCompatible(that.getUnit())) {
+			return new DimensionlessQuantity((double) nanos / nanosOf((Quantity<Time>) that), DimensionlessUnit.ONE);
+		}
+		return divide(dimensionlessValue(that));
+	}
+
+	/**
+	 * Returns a quantity of the same nanoseconds in another {@link TimeUnit}.
+	 */
+	public NanoTimeQuantity to(Unit<Time> unit) {
+		if (unit instanceof TimeUnit) {
+			return unit == this.unit ? this : new NanoTimeQuantity(nanos, (TimeUnit) unit);
+		}
+		throw new ArithmeticException("Cannot convert " + this.unit + " to " + unit);
+	}
+
+	public Quantity<Time> inverse() {
+		throw new UnsupportedOperationException("Inverse units are not supported: " + unit);
+	}
+
+	@Override
+	public NanoTimeQuantity negate() {
+		return new NanoTimeQuantity(Math.negateExact(nanos), unit);
+	}
+
+	public int compareTo(Quantity<Time> o) {
+		return Long.compare(nanos, nanosOf(o));
+	}
+
+	public boolean eq(AbstractQuantity<Time> dq) {
+		if (!(dq instanceof NanoTimeQuantity)) {
+			return false;
+		}
+		final NanoTimeQuantity that = (NanoTimeQuantity) dq;
+		return nanos == that.nanos && unit == that.unit;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(nanos) * 31 + unit.hashCode();
+	}
+
+	public String toString(boolean withUnit, boolean withSpace, int precision) {
+		final StringBuilder sb = new StringBuilder(getStr(getValue(), precision));
+		if (withUnit) {
+			if (withSpace)
+				sb.append(' ');
+			sb.append(unit.getSymbol());
+		}
+		return sb.toString();
+	}
+
+	public String showInUnit(Unit<?> u, int precision, UnitStyle style) {
+		return showInUnit(u, nanos / 1e9, precision, style, true);
+	}
+}
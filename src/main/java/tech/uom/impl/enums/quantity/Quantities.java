@@ -29,13 +29,17 @@
  */
 package tech.uom.impl.enums.quantity;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.BiFunction;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
 
+import tech.uom.impl.enums.unit.DimensionlessUnit;
+import tech.uom.impl.enums.unit.TemperatureUnit;
 import tech.uom.impl.enums.unit.TimeUnit;
 
 
@@ -54,8 +58,9 @@ public final class Quantities {
   }
 
   /**
-   * Returns the scalar measurement. When the {@link Number} was {@link BigDecimal} or {@link BigInteger} will uses {@link DecimalQuantity}, when the
-   * {@link Number} was {@link Double} will {@link DoubleQuantity} otherwise will {@link NumberQuantity}. in the specified unit.
+   * Returns the scalar measurement in the specified unit. The quantity class depends on the class of the unit: {@link TemperatureUnit}
+   * gives a {@link TemperatureQuantity}, {@link TimeUnit} a {@link TimeQuantity}, unit classes registered through a
+   * {@link UnitQuantityFactory} the quantity of that factory, and all other units a {@link DimensionlessQuantity}.
    *
    * @param value
    *          the measurement value.
@@ -69,11 +74,82 @@ public final class Quantities {
   public static <Q extends Quantity<Q>> Quantity<Q> getQuantity(Number value, Unit<Q> unit) {
     Objects.requireNonNull(value);
     Objects.requireNonNull(unit);
-    if (TemperatureQuantity.class.isInstance(unit)) {
-      return (Quantity<Q>) new TemperatureQuantity(value, unit);
-    } else if (TimeUnit.class.isInstance(unit)) {
-      return (Quantity<Q>) new TimeQuantity(value, unit);
+    return (Quantity<Q>) Factories.BY_UNIT_CLASS.get(unit.getClass()).boxed.apply(value, unit);
+  }
+
+  /**
+   * Returns the scalar measurement in the specified unit, like {@link #getQuantity(Number, Unit)}. The built-in quantities are
+   * created from the primitive value, without boxing it.
+   *
+   * @param value
+   *          the measurement value.
+   * @param unit
+   *          the measurement unit.
+   * @return the corresponding <code>numeric</code> measurement.
+   * @throws NullPointerException
+   *           when unit is null
+   * @since 2.2
+   */
+  @SuppressWarnings("unchecked")
+  public static <Q extends Quantity<Q>> Quantity<Q> getQuantity(double value, Unit<Q> unit) {
+    Objects.requireNonNull(unit);
+    return (Quantity<Q>) Factories.BY_UNIT_CLASS.get(unit.getClass()).primitive.create(value, unit);
+  }
+
+  /**
+   * Creates a quantity from a primitive value.
+   */
+  @FunctionalInterface
+  private interface DoubleFactory {
+    Quantity<?> create(double value, Unit<?> unit);
+  }
+
+  /**
+   * A quantity factory, taking a boxed or a primitive value.
+   */
+  private static final class Factory {
+    final BiFunction<Number, Unit<?>, Quantity<?>> boxed;
+    final DoubleFactory primitive;
+
+    Factory(BiFunction<Number, Unit<?>, Quantity<?>> boxed, DoubleFactory primitive) {
+      this.boxed = boxed;
+      this.primitive = primitive;
     }
-    return (Quantity<Q>) new DimensionlessQuantity(value, unit);
+  }
+
+  /**
+   * Holds the quantity factories by unit class, loaded on first use.
+   */
+  private static final class Factories {
+    private static final Factory DEFAULT = new Factory(DimensionlessQuantity::new, DimensionlessQuantity::new);
+
+    private static final Map<Class<?>, Factory> REGISTERED = new HashMap<>();
+
+    static {
+      REGISTERED.put(TemperatureUnit.class,
+          new Factory(TemperatureQuantity::new, (value, unit) -> new TemperatureQuantity(value, (TemperatureUnit) unit)));
+      REGISTERED.put(TimeUnit.class, new Factory(TimeQuantity::new, (value, unit) -> new TimeQuantity(value, (TimeUnit) unit)));
+      REGISTERED.put(DimensionlessUnit.class, DEFAULT);
+      for (UnitQuantityFactory factory : ServiceLoader.load(UnitQuantityFactory.class)) {
+        // Registered factories take a Number, their values are boxed.
+        REGISTERED.put(factory.getUnitType(), new Factory(factory::create, factory::create));
+      }
+    }
+
+    /**
+     * Resolves the factory of a unit class once, looking at its superclasses for enum constants with a body.
+     */
+    static final ClassValue<Factory> BY_UNIT_CLASS = new ClassValue<Factory>() {
+      @Override
+      protected Factory computeValue(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+          final Factory factory = REGISTERED.get(c);
+          if (factory != null) {
+            return factory;
+          }
+        }
+        return DEFAULT;
+      }
+    };
   }
 }
@@ -0,0 +1,356 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.format.DoubleToDecimal;
+import tech.uom.impl.enums.function.AbstractConverter;
+
+/**
+ * <p>
+ * A fixed size column of values stated in the same unit, stored in a single <code>double[]</code>.
+ * </p>
+ * <p>
+ * A series of samples held this way takes 8 bytes per value instead of a quantity object each, with its boxed value, unit and scale.
+ * {@link Quantity} objects are only created on demand by {@link #getQuantity(int)} or {@link #asList()}. Converting the whole column
+ * with {@link #to(Unit)} uses the bulk conversion of {@link AbstractConverter}.
+ * </p>
+ * <p>
+ * {@link #subArray(int, int) Sub-arrays} are views sharing the values of the array they were taken from. Like Java arrays this
+ * class is mutable and not thread-safe.
+ * </p>
+ *
+ * @param <Q>
+ *            the quantity type of the values.
+ * @author Werner Keil
+ * @version 1.2, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class QuantityArray<Q extends Quantity<Q>> {
+
+	private final double[] values;
+	private final int offset;
+	private final int length;
+	private final Unit<Q> unit;
+
+	private QuantityArray(double[] values, int offset, int length, Unit<Q> unit) {
+		this.values = values;
+		this.offset = offset;
+		this.length = length;
+		this.unit = Objects.requireNonNull(unit);
+	}
+
+	/**
+	 * Creates an array of <code>length</code> zero values.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param length
+	 *            the number of values.
+	 * @param unit
+	 *            the unit of the values.
+	 * @return the new array.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> create(int length, Unit<Q> unit) {
+		return new QuantityArray<>(new double[length], 0, length, unit);
+	}
+
+	/**
+	 * Creates an array holding a copy of the specified values.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param unit
+	 *            the unit of the values.
+	 * @param values
+	 *            the values.
+	 * @return the new array.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> of(Unit<Q> unit, double... values) {
+		return new QuantityArray<>(values.clone(), 0, values.length, unit);
+	}
+
+	/**
+	 * Creates an array backed by the specified values, changes to either are visible in the other.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param values
+	 *            the values.
+	 * @param unit
+	 *            the unit of the values.
+	 * @return the array view.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> wrap(double[] values, Unit<Q> unit) {
+		return new QuantityArray<>(values, 0, values.length, unit);
+	}
+
+	/**
+	 * Returns the number of values.
+	 *
+	 * @return the number of values.
+	 */
+	public int size() {
+		return length;
+	}
+
+	/**
+	 * Returns the unit of all values.
+	 *
+	 * @return the unit.
+	 */
+	public Unit<Q> getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Returns the value at the specified index, stated in {@link #getUnit()}.
+	 *
+	 * @param index
+	 *            the index.
+	 * @return the value.
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range.
+	 */
+	public double get(int index) {
+		return values[offset + checkIndex(index)];
+	}
+
+	/**
+	 * Replaces the value at the specified index.
+	 *
+	 * @param index
+	 *            the index.
+	 * @param value
+	 *            the new value, stated in {@link #getUnit()}.
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range.
+	 */
+	public void set(int index, double value) {
+		values[offset + checkIndex(index)] = value;
+	}
+
+	/**
+	 * Replaces the value at the specified index by the specified quantity, converted to {@link #getUnit()}.
+	 *
+	 * @param index
+	 *            the index.
+	 * @param quantity
+	 *            the new quantity.
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range.
+	 */
+	public void set(int index, Quantity<Q> quantity) {
+		final double value = quantity instanceof DoubleQuantity ? ((DoubleQuantity<Q>) quantity).doubleValue()
+				: quantity.getValue().doubleValue();
+		set(index, quantity.getUnit().equals(unit) ? value : quantity.getUnit().getConverterTo(unit).convert(value));
+	}
+
+	/**
+	 * Creates the quantity at the specified index.
+	 *
+	 * @param index
+	 *            the index.
+	 * @return a new quantity of the value at the index in {@link #getUnit()}.
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range.
+	 */
+	public Quantity<Q> getQuantity(int index) {
+		return Quantities.getQuantity(get(index), unit);
+	}
+
+	/**
+	 * Returns a view of the values from <code>fromIndex</code>, inclusive, to <code>toIndex</code>, exclusive. Changes to either array are
+	 * visible in the other.
+	 *
+	 * @param fromIndex
+	 *            the first index of the view.
+	 * @param toIndex
+	 *            the index after the last one of the view.
+	 * @return the view.
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds.
+	 */
+	public QuantityArray<Q> subArray(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + length);
+		}
+		return new QuantityArray<>(values, offset + fromIndex, toIndex - fromIndex, unit);
+	}
+
+	/**
+	 * Returns a new array with all values converted to the specified unit.
+	 *
+	 * @param unit
+	 *            the unit to convert to.
+	 * @return a new array in that unit, or this array if it is already stated in that unit.
+	 */
+	public QuantityArray<Q> to(Unit<Q> unit) {
+		if (this.unit.equals(unit)) {
+			return this;
+		}
+		final QuantityArray<Q> result = create(length, unit);
+		AbstractConverter.convertRange(this.unit.getConverterTo(unit), values, offset, result.values, 0, length);
+		return result;
+	}
+
+	/**
+	 * Copies the values, converted to the specified unit, into a <code>double[]</code>.
+	 *
+	 * @param unit
+	 *            the unit to convert to.
+	 * @param dst
+	 *            the destination.
+	 * @param dstOffset
+	 *            the index of the first value in the destination.
+	 * @throws IndexOutOfBoundsException
+	 *             if the destination is too small.
+	 */
+	public void copyTo(Unit<Q> unit, double[] dst, int dstOffset) {
+		if (dstOffset < 0 || length > dst.length - dstOffset) {
+			throw new IndexOutOfBoundsException("Range [" + dstOffset + ", " + dstOffset + " + " + length + ") out of bounds for length "
+					+ dst.length);
+		}
+		AbstractConverter.convertRange(this.unit.getConverterTo(unit), values, offset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Returns a copy of the values in {@link #getUnit()}.
+	 *
+	 * @return a new array of the values.
+	 */
+	public double[] toArray() {
+		return Arrays.copyOfRange(values, offset, offset + length);
+	}
+
+	/**
+	 * Returns a fixed size list view of this array. Quantities are created when elements are read, setting an element converts it
+	 * into this array.
+	 *
+	 * @return a list of the quantities.
+	 */
+	public List<Quantity<Q>> asList() {
+		return new QuantityList();
+	}
+
+	/**
+	 * The backing array, shared with views.
+	 */
+	double[] array() {
+		return values;
+	}
+
+	/**
+	 * The index of the first value in the {@link #array() backing array}.
+	 */
+	int arrayOffset() {
+		return offset;
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+		}
+		return index;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof QuantityArray)) {
+			return false;
+		}
+		final QuantityArray<?> that = (QuantityArray<?>) obj;
+		if (length != that.length || !unit.equals(that.unit)) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (Double.doubleToLongBits(values[offset + i]) != Double.doubleToLongBits(that.values[that.offset + i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < length; i++) {
+			result = 31 * result + Double.hashCode(values[offset + i]);
+		}
+		return 31 * result + unit.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(length * 8 + 8);
+		sb.append('[');
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			DoubleToDecimal.appendTo(values[offset + i], sb);
+		}
+		return sb.append("] ").append(unit.getSymbol()).toString();
+	}
+
+	/**
+	 * The view returned by {@link QuantityArray#asList()}.
+	 */
+	private final class QuantityList extends AbstractList<Quantity<Q>> implements RandomAccess {
+		@Override
+		public Quantity<Q> get(int index) {
+			return getQuantity(index);
+		}
+
+		@Override
+		public Quantity<Q> set(int index, Quantity<Q> element) {
+			final Quantity<Q> previous = getQuantity(index);
+			QuantityArray.this.set(index, element);
+			return previous;
+		}
+
+		@Override
+		public int size() {
+			return length;
+		}
+	}
+}
@@ -0,0 +1,452 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.function.AbstractConverter;
+
+/**
+ * Parallel conversion and summation of large batches of values, split over a {@link ForkJoinPool}.
+ * <p>
+ * Batches are split in halves until they hold at most a threshold of values, each part is then processed sequentially: conversions
+ * use the bulk conversion of {@link AbstractConverter}, the conversions between enum units come from their precomputed tables.
+ * Batches not larger than the threshold are processed in the calling thread. The split points only depend on the size of the batch
+ * and the threshold, so sums are reproducible whatever the pool.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class QuantityBatches {
+
+	/**
+	 * The default number of values processed sequentially by a single task.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+	/**
+	 * Private singleton constructor.
+	 */
+	private QuantityBatches() {
+	}
+
+	/**
+	 * Converts <code>len</code> values in parallel on the common pool.
+	 *
+	 * @see #convertParallel(UnitConverter, double[], int, double[], int, int, ForkJoinPool, int)
+	 */
+	public static void convertParallel(UnitConverter converter, double[] src, int srcOff, double[] dst, int dstOff, int len) {
+		convertParallel(converter, src, srcOff, dst, dstOff, len, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Converts <code>len</code> values of <code>src</code> starting at <code>srcOff</code> and stores the results in <code>dst</code>
+	 * starting at <code>dstOff</code>. In place conversion is supported, other overlapping ranges are converted sequentially.
+	 *
+	 * @param converter
+	 *            the converter.
+	 * @param src
+	 *            the values to convert.
+	 * @param srcOff
+	 *            the index of the first value to convert.
+	 * @param dst
+	 *            the destination of the converted values.
+	 * @param dstOff
+	 *            the index the first converted value is stored at.
+	 * @param len
+	 *            the number of values to convert.
+	 * @param pool
+	 *            the pool running the conversion.
+	 * @param threshold
+	 *            the number of values converted sequentially by a single task.
+	 * @throws IndexOutOfBoundsException
+	 *             if a range exceeds the bounds of its array.
+	 * @throws IllegalArgumentException
+	 *             if the threshold is not positive.
+	 */
+	public static void convertParallel(UnitConverter converter, double[] src, int srcOff, double[] dst, int dstOff, int len,
+			ForkJoinPool pool, int threshold) {
+		checkRange(src.length, srcOff, len);
+		checkRange(dst.length, dstOff, len);
+		checkThreshold(threshold);
+		final AbstractConverter cvtr = asAbstractConverter(converter);
+		final boolean overlapping = src == dst && srcOff != dstOff && srcOff < dstOff + len && dstOff < srcOff + len;
+		if (len <= threshold || overlapping) {
+			cvtr.convert(src, srcOff, dst, dstOff, len);
+		} else {
+			pool.invoke(new ConvertTask(cvtr, src, srcOff, dst, dstOff, len, threshold));
+		}
+	}
+
+	/**
+	 * Converts all values of the specified array in parallel on the common pool.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param values
+	 *            the values to convert.
+	 * @param unit
+	 *            the unit to convert to.
+	 * @return a new array in that unit, or the specified array if it is already stated in that unit.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> convertParallel(QuantityArray<Q> values, Unit<Q> unit) {
+		return convertParallel(values, unit, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Converts all values of the specified array in parallel.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param values
+	 *            the values to convert.
+	 * @param unit
+	 *            the unit to convert to.
+	 * @param pool
+	 *            the pool running the conversion.
+	 * @param threshold
+	 *            the number of values converted sequentially by a single task.
+	 * @return a new array in that unit, or the specified array if it is already stated in that unit.
+	 */
+	public static <Q extends Quantity<Q>> QuantityArray<Q> convertParallel(QuantityArray<Q> values, Unit<Q> unit,
+			ForkJoinPool pool, int threshold) {
+		if (values.getUnit().equals(unit)) {
+			return values;
+		}
+		final QuantityArray<Q> result = QuantityArray.create(values.size(), unit);
+		convertParallel(values.getUnit().getConverterTo(unit), values.array(), values.arrayOffset(), result.array(), 0,
+				values.size(), pool, threshold);
+		return result;
+	}
+
+	/**
+	 * Sums <code>len</code> values in parallel on the common pool.
+	 *
+	 * @see #sumParallel(double[], int, int, ForkJoinPool, int)
+	 */
+	public static double sumParallel(double[] values, int off, int len) {
+		return sumParallel(values, off, len, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Sums <code>len</code> values of the specified array starting at <code>off</code>.
+	 *
+	 * @param values
+	 *            the values to sum.
+	 * @param off
+	 *            the index of the first value.
+	 * @param len
+	 *            the number of values.
+	 * @param pool
+	 *            the pool computing the sum.
+	 * @param threshold
+	 *            the number of values summed sequentially by a single task.
+	 * @return the sum.
+	 * @throws IndexOutOfBoundsException
+	 *             if the range exceeds the bounds of the array.
+	 * @throws IllegalArgumentException
+	 *             if the threshold is not positive.
+	 */
+	public static double sumParallel(double[] values, int off, int len, ForkJoinPool pool, int threshold) {
+		checkRange(values.length, off, len);
+		checkThreshold(threshold);
+		if (len <= threshold) {
+			return SumTask.sum(values, off, len);
+		}
+		return pool.invoke(new SumTask(values, off, len, threshold));
+	}
+
+	/**
+	 * Sums all values of the specified array in parallel on the common pool.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param values
+	 *            the values to sum.
+	 * @param unit
+	 *            the unit of the sum.
+	 * @return the sum in the specified unit.
+	 */
+	public static <Q extends Quantity<Q>> Quantity<Q> sumParallel(QuantityArray<Q> values, Unit<Q> unit) {
+		return sumParallel(values, unit, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Sums all values of the specified array in parallel. If the conversion to the unit of the sum is linear the values are summed in
+	 * their own unit and only the sum is converted, otherwise each value is converted first.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param values
+	 *            the values to sum.
+	 * @param unit
+	 *            the unit of the sum.
+	 * @param pool
+	 *            the pool computing the sum.
+	 * @param threshold
+	 *            the number of values summed sequentially by a single task.
+	 * @return the sum in the specified unit.
+	 */
+	public static <Q extends Quantity<Q>> Quantity<Q> sumParallel(QuantityArray<Q> values, Unit<Q> unit, ForkJoinPool pool,
+			int threshold) {
+		final UnitConverter cvtr = values.getUnit().getConverterTo(unit);
+		if (cvtr.isLinear()) {
+			final double sum = sumParallel(values.array(), values.arrayOffset(), values.size(), pool, threshold);
+			return Quantities.getQuantity(cvtr.convert(sum), unit);
+		}
+		final QuantityArray<Q> converted = convertParallel(values, unit, pool, threshold);
+		return Quantities.getQuantity(sumParallel(converted.array(), converted.arrayOffset(), converted.size(), pool, threshold),
+				unit);
+	}
+
+	/**
+	 * Sums the specified quantities in parallel on the common pool.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param quantities
+	 *            the quantities to sum, in any compatible units.
+	 * @param unit
+	 *            the unit of the sum.
+	 * @return the sum in the specified unit.
+	 */
+	public static <Q extends Quantity<Q>> Quantity<Q> sumParallel(List<? extends Quantity<Q>> quantities, Unit<Q> unit) {
+		return sumParallel(quantities, unit, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Sums the specified quantities in parallel, each converted to the unit of the sum. The list should support fast random access.
+	 *
+	 * @param <Q>
+	 *            the quantity type.
+	 * @param quantities
+	 *            the quantities to sum, in any compatible units.
+	 * @param unit
+	 *            the unit of the sum.
+	 * @param pool
+	 *            the pool computing the sum.
+	 * @param threshold
+	 *            the number of quantities summed sequentially by a single task.
+	 * @return the sum in the specified unit.
+	 */
+	public static <Q extends Quantity<Q>> Quantity<Q> sumParallel(List<? extends Quantity<Q>> quantities, Unit<Q> unit,
+			ForkJoinPool pool, int threshold) {
+		Objects.requireNonNull(unit);
+		checkThreshold(threshold);
+		final int size = quantities.size();
+		final double sum = size <= threshold ? QuantitySumTask.sum(quantities, unit, 0, size)
+				: pool.invoke(new QuantitySumTask<>(quantities, unit, 0, size, threshold));
+		return Quantities.getQuantity(sum, unit);
+	}
+
+	private static AbstractConverter asAbstractConverter(final UnitConverter converter) {
+		if (converter instanceof AbstractConverter) {
+			return (AbstractConverter) converter;
+		}
+		Objects.requireNonNull(converter);
+		return new AbstractConverter() {
+			@Override
+			public double convert(double value) {
+				return converter.convert(value);
+			}
+
+			@Override
+			public AbstractConverter inverse() {
+				return asAbstractConverter(converter.inverse());
+			}
+
+			@Override
+			public boolean isLinear() {
+				return converter.isLinear();
+			}
+
+			@Override
+			public boolean equals(Object cvtr) {
+				return this == cvtr;
+			}
+
+			@Override
+			public int hashCode() {
+				return converter.hashCode();
+			}
+		};
+	}
+
+	private static void checkRange(int length, int off, int len) {
+		if ((off | len) < 0 || len > length - off) {
+			throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + length);
+		}
+	}
+
+	private static void checkThreshold(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+		}
+	}
+
+	/**
+	 * Converts a range of values, splitting it while larger than the threshold.
+	 */
+	private static final class ConvertTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final AbstractConverter converter;
+		private final double[] src;
+		private final int srcOff;
+		private final double[] dst;
+		private final int dstOff;
+		private final int len;
+		private final int threshold;
+
+		ConvertTask(AbstractConverter converter, double[] src, int srcOff, double[] dst, int dstOff, int len, int threshold) {
+			this.converter = converter;
+			this.src = src;
+			this.srcOff = srcOff;
+			this.dst = dst;
+			this.dstOff = dstOff;
+			this.len = len;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (len <= threshold) {
+				converter.convert(src, srcOff, dst, dstOff, len);
+			} else {
+				final int half = len >>> 1;
+				invokeAll(new ConvertTask(converter, src, srcOff, dst, dstOff, half, threshold),
+						new ConvertTask(converter, src, srcOff + half, dst, dstOff + half, len - half, threshold));
+			}
+		}
+	}
+
+	/**
+	 * Sums a range of values, splitting it while larger than the threshold.
+	 */
+	private static final class SumTask extends RecursiveTask<Double> {
+		private static final long serialVersionUID = 1L;
+
+		private final double[] values;
+		private final int off;
+		private final int len;
+		private final int threshold;
+
+		SumTask(double[] values, int off, int len, int threshold) {
+			this.values = values;
+			this.off = off;
+			this.len = len;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Double compute() {
+			if (len <= threshold) {
+				return sum(values, off, len);
+			}
+			final int half = len >>> 1;
+			final SumTask left = new SumTask(values, off, half, threshold);
+			left.fork();
+			final double right = new SumTask(values, off + half, len - half, threshold).compute();
+			return left.join() + right;
+		}
+
+		static double sum(double[] values, int off, int len) {
+			double sum = 0d;
+			for (int i = off; i < off + len; i++) {
+				sum += values[i];
+			}
+			return sum;
+		}
+	}
+
+	/**
+	 * Sums a range of quantities converted to a unit, splitting it while larger than the threshold.
+	 */
+	private static final class QuantitySumTask<Q extends Quantity<Q>> extends RecursiveTask<Double> {
+		private static final long serialVersionUID = 1L;
+
+		private final List<? extends Quantity<Q>> quantities;
+		private final Unit<Q> unit;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		QuantitySumTask(List<? extends Quantity<Q>> quantities, Unit<Q> unit, int from, int to, int threshold) {
+			this.quantities = quantities;
+			this.unit = unit;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Double compute() {
+			if (to - from <= threshold) {
+				return sum(quantities, unit, from, to);
+			}
+			final int middle = (from + to) >>> 1;
+			final QuantitySumTask<Q> left = new QuantitySumTask<>(quantities, unit, from, middle, threshold);
+			left.fork();
+			final double right = new QuantitySumTask<>(quantities, unit, middle, to, threshold).compute();
+			return left.join() + right;
+		}
+
+		static <Q extends Quantity<Q>> double sum(List<? extends Quantity<Q>> quantities, Unit<Q> unit, int from, int to) {
+			double sum = 0d;
+			// Batches are mostly in one or a few units, keep the converter of the last one.
+			Unit<Q> lastUnit = unit;
+			UnitConverter lastConverter = AbstractConverter.IDENTITY;
+			for (int i = from; i < to; i++) {
+				final Quantity<Q> q = quantities.get(i);
+				final Unit<Q> u = q.getUnit();
+				if (u != lastUnit) {
+					lastUnit = u;
+					lastConverter = u.getConverterTo(unit);
+				}
+				// Reads the primitive value of our quantities without boxing it.
+				final double value = q instanceof DoubleQuantity ? ((DoubleQuantity<?>) q).doubleValue()
+						: q.getValue().doubleValue();
+				sum += lastConverter.convert(value);
+			}
+			return sum;
+		}
+	}
+}
@@ -32,22 +32,23 @@ package tech.uom.impl.enums.quantity;
 import static javax.measure.Quantity.Scale.*;
 
 import javax.measure.Quantity;
-import javax.measure.UnconvertibleException;
 import javax.measure.Unit;
-import javax.measure.UnitConverter;
 import javax.measure.quantity.Temperature;
 
 import tech.uom.impl.enums.AbstractQuantity;
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.format.DoubleToDecimal;
 import tech.uom.impl.enums.format.UnitStyle;
+import tech.uom.impl.enums.unit.DimensionlessUnit;
 import tech.uom.impl.enums.unit.TemperatureUnit;
 
 /**
  * @author Werner Keil
- * @version 1.2, $Date: 2018-12-18 $
+ * @version 1.6, $Date: 2026-10-18 $
  */
 public final class TemperatureQuantity extends AbstractQuantity<Temperature> 
-  implements Temperature {
-    private final Double scalar; // value in reference unit
+  implements Temperature, DoubleQuantity<Temperature> {
+    private final double scalar; // value in reference unit
 
     private final double value; // value in unit (Unit unit)
 
@@ -61,7 +62,7 @@ public final class TemperatureQuantity extends AbstractQuantity<Temperature>
         if (un != null) {
         	scalar = val * un.getFactor();
         } 
-        else scalar = null;        
+        else scalar = Double.NaN;
     }
     
     public TemperatureQuantity(Number val, @SuppressWarnings("rawtypes") Unit u) {
@@ -74,42 +75,37 @@ public final class TemperatureQuantity extends AbstractQuantity<Temperature>
     }
 
     public TemperatureQuantity add(TemperatureQuantity d1) {
-        final TemperatureQuantity dn = new TemperatureQuantity(Double.valueOf(
-                this.value + d1.value),
-        		this.unit);
-        return dn;
+        return add((Quantity<Temperature>) d1);
     }
 
     public TemperatureQuantity subtract(TemperatureQuantity d1) {
-    	final TemperatureQuantity dn = new TemperatureQuantity(
-                this.value- d1.value, this.unit);
-        return dn;
+        return subtract((Quantity<Temperature>) d1);
     }
 
     protected boolean eq(TemperatureQuantity dq) {
-         return dq!=null && dq.getValue().equals(getValue()) && 
-                 dq.getUnit().equals(getUnit()) &&
-                 dq.getScalar().equals(getScalar());
+         return dq!=null && Double.doubleToLongBits(dq.value) == Double.doubleToLongBits(value) && 
+                 dq.unit.equals(unit) &&
+                 Double.doubleToLongBits(dq.scalar) == Double.doubleToLongBits(scalar);
     }
 
     boolean ne(TemperatureQuantity d1) {
-        return ne((TemperatureQuantity) d1);
+        return compareTo(d1) != 0;
     }
 
     boolean gt(TemperatureQuantity d1) {
-        return gt((TemperatureQuantity) d1);
+        return compareTo(d1) > 0;
     }
 
     public boolean lt(TemperatureQuantity d1) {
-        return lt((TemperatureQuantity) d1);
+        return compareTo(d1) < 0;
     }
 
     public boolean ge(TemperatureQuantity d1) {
-        return ge((TemperatureQuantity)d1);
+        return compareTo(d1) >= 0;
     }
 
     public boolean le(TemperatureQuantity d1) {
-        return le((TemperatureQuantity) d1);
+        return compareTo(d1) <= 0;
     }
 
     public TemperatureQuantity divide(double v) {
@@ -118,8 +114,7 @@ public final class TemperatureQuantity extends AbstractQuantity<Temperature>
     }
 
     protected TemperatureQuantity convert(TemperatureUnit newUnit) {
-        return new TemperatureQuantity(value /  
-                newUnit.getFactor(), newUnit);
+        return new TemperatureQuantity(unit.getConverterTo(newUnit).convert(value), newUnit);
     }
 
     @Override
@@ -129,8 +124,8 @@ public final class TemperatureQuantity extends AbstractQuantity<Temperature>
 
     @Override
     public String toString(boolean withUnit, boolean withSpace, int precision) {
-        final StringBuilder sb = new StringBuilder();
-    	sb.append(getValue());
+        final StringBuilder sb = new StringBuilder(DoubleToDecimal.MAX_CHARS + 4);
+    	DoubleToDecimal.appendTo(value, sb);
     	if(withUnit) {
         	if(withSpace) sb.append(" ");
     		sb.append(getUnit().getSymbol());
@@ -152,35 +147,35 @@ public final class TemperatureQuantity extends AbstractQuantity<Temperature>
 		 return unit;
 	}
 
-	public Quantity<Temperature> multiply(Number that) {
+	public TemperatureQuantity multiply(Number that) {
 		return new TemperatureQuantity(value * that.doubleValue(), unit);
 	}
 	
 	public Quantity<?> multiply(Quantity<?> that) {
-		return new TemperatureQuantity(value * that.getValue().doubleValue(), unit);
+		return multiply(dimensionlessValue(that));
 	}
 
 	public Quantity<Temperature> inverse() {
-		// TODO Auto-generated method stub
-		return null;
+		throw new UnsupportedOperationException("Inverse units are not supported: " + unit);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * Measurement#doubleValue(javax.measure.Unit)
+	public double doubleValue() {
+		return value;
+	}
+
+	public double doubleValue(Unit<Temperature> unit) {
+		return doubleValueIn(unit);
+	}
+
+	/**
+	 * Adds an amount to this temperature, like a point on its scale.
 	 */
-	protected double doubleValue(Unit<Temperature> unit) {
-		Unit<Temperature> myUnit = getUnit();
-		try {
-			UnitConverter converter = unit.getConverterTo(myUnit);
-			return converter.convert(getValue().doubleValue());
-		} catch (UnconvertibleException e) {
-			throw e;
-		} // catch (IncommensurableException e) {
-		// throw new IllegalArgumentException(e.getMessage());
-		// }
+	public TemperatureQuantity plus(double amount) {
+		return new TemperatureQuantity(value + amount, unit);
+	}
+
+	public TemperatureQuantity times(double factor) {
+		return new TemperatureQuantity(value * factor, unit);
 	}
 	
 	public Quantity<Temperature> to(Unit<Temperature> unit) {
@@ -204,29 +199,34 @@ public final class TemperatureQuantity extends AbstractQuantity<Temperature>
 		 return eq((TemperatureQuantity) dq);
 	}
 
+	@SuppressWarnings("unchecked")
 	public Quantity<?> divide(Quantity<?> that) {
-		// TODO Auto-generated method stub
-		return null;
+		if (unit.isCompatible(that.getUnit())) {
+			return new DimensionlessQuantity(value / valueIn((Quantity<Temperature>) that, unit), DimensionlessUnit.ONE);
+		}
+		return divide(dimensionlessValue(that));
 	}
 
-	public Quantity<Temperature> subtract(Quantity<Temperature> that) {
-		// TODO Auto-generated method stub
-		return null;
+	/**
+	 * Subtracts a temperature, converted to the unit of this one like a point on its scale.
+	 */
+	public TemperatureQuantity subtract(Quantity<Temperature> that) {
+		return new TemperatureQuantity(value - valueIn(that, unit), unit);
 	}
 
-	public Quantity<Temperature> add(Quantity<Temperature> that) {
-		// TODO Auto-generated method stub
-		return null;
+	/**
+	 * Adds a temperature, converted to the unit of this one like a point on its scale.
+	 */
+	public TemperatureQuantity add(Quantity<Temperature> that) {
+		return new TemperatureQuantity(value + valueIn(that, unit), unit);
 	}
 	
-	public Quantity<Temperature> divide(Number that) {
-		// TODO Auto-generated method stub
-		return null;
+	public TemperatureQuantity divide(Number that) {
+		return new TemperatureQuantity(value / that.doubleValue(), unit);
 	}
 
 	public int compareTo(Quantity<Temperature> o) {
-		// TODO Auto-generated method stub
-		return 0;
+		return Double.compare(value, valueIn(o, unit));
 	}
 	
 	@Override
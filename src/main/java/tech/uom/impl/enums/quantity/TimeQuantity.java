@@ -36,78 +36,98 @@ import javax.measure.Unit;
 import javax.measure.quantity.Time;
 
 import tech.uom.impl.enums.AbstractQuantity;
+import tech.uom.impl.enums.DoubleQuantity;
+import tech.uom.impl.enums.format.DoubleToDecimal;
 import tech.uom.impl.enums.format.UnitStyle;
+import tech.uom.impl.enums.unit.DimensionlessUnit;
 import tech.uom.impl.enums.unit.TimeUnit;
 
 /**
  * @author Werner Keil
- * @version 0.8, $Date: 2018-07-21 $
+ * @version 1.2, $Date: 2026-10-18 $
  */
-public class TimeQuantity extends AbstractQuantity<Time> implements Time {
+public class TimeQuantity extends AbstractQuantity<Time> implements Time, DoubleQuantity<Time> {
 	private final double scalar; // value in reference unit
 
-	private final Double value; // value in unit (Unit unit)
+	private final double value; // value in unit (Unit unit)
 	private final TimeUnit unit;
 
-	public TimeQuantity(Number val, TimeUnit un) {
-		value = val.doubleValue();
+	public TimeQuantity(double val, TimeUnit un) {
+		value = val;
 		unit = un;
-		if (val != null && un != null) {
-			scalar = val.doubleValue() * un.getFactor();
+		if (un != null) {
+			scalar = val * un.getFactor();
 		} else
 			scalar = NaN;
 	}
 
+	public TimeQuantity(Number val, TimeUnit un) {
+		this(val.doubleValue(), un);
+	}
+
 	public TimeQuantity(Number val, @SuppressWarnings("rawtypes") Unit un) {
 		this(val.doubleValue(), (TimeUnit) un);
 	}
 
 	public boolean isZero() {
-		return (value != null) && 0d == (value.doubleValue());
+		return 0d == value;
 	}
 
 	public TimeQuantity add(TimeQuantity d1) {
-		final TimeQuantity dn = new TimeQuantity(Double.valueOf(this.value.doubleValue() + d1.value.doubleValue()),
-				this.unit);
-		return dn;
+		return add((Quantity<Time>) d1);
 	}
 
 	public TimeQuantity subtract(TimeQuantity d1) {
-		final TimeQuantity dn = new TimeQuantity(this.value.doubleValue() - d1.value.doubleValue(), this.unit);
-		return dn;
+		return subtract((Quantity<Time>) d1);
 	}
 
 	public boolean eq(TimeQuantity dq) {
-		return dq != null && dq.getValue().equals(getValue()) && dq.getUnit().equals(getUnit())
-				&& dq.getScalar().equals(getScalar());
+		return dq != null && Double.doubleToLongBits(dq.value) == Double.doubleToLongBits(value) && dq.unit.equals(unit)
+				&& Double.doubleToLongBits(dq.scalar) == Double.doubleToLongBits(scalar);
 	}
 
 	public boolean ne(TimeQuantity d1) {
-		return ne((TimeQuantity) d1);
+		return compareTo(d1) != 0;
 	}
 
 	public boolean gt(TimeQuantity d1) {
-		return gt((TimeQuantity) d1);
+		return compareTo(d1) > 0;
 	}
 
 	public boolean lt(TimeQuantity d1) {
-		return lt((TimeQuantity) d1);
+		return compareTo(d1) < 0;
 	}
 
 	public boolean ge(TimeQuantity d1) {
-		return ge((TimeQuantity) d1);
+		return compareTo(d1) >= 0;
 	}
 
 	public boolean le(TimeQuantity d1) {
-		return le((TimeQuantity) d1);
+		return compareTo(d1) <= 0;
 	}
 
 	public TimeQuantity divide(Double v) {
-		return new TimeQuantity(value.doubleValue() / v.doubleValue(), unit);
+		return new TimeQuantity(value / v.doubleValue(), unit);
 	}
 
 	protected TimeQuantity convert(TimeUnit newUnit) {
-		return new TimeQuantity(value.doubleValue() * (this.unit.getFactor() / newUnit.getFactor()), newUnit);
+		return new TimeQuantity(value * (this.unit.getFactor() / newUnit.getFactor()), newUnit);
+	}
+
+	public double doubleValue() {
+		return value;
+	}
+
+	public double doubleValue(Unit<Time> unit) {
+		return doubleValueIn(unit);
+	}
+
+	public TimeQuantity plus(double amount) {
+		return new TimeQuantity(value + amount, unit);
+	}
+
+	public TimeQuantity times(double factor) {
+		return new TimeQuantity(value * factor, unit);
 	}
 
 	public Number getScalar() {
@@ -115,8 +135,8 @@ public class TimeQuantity extends AbstractQuantity<Time> implements Time {
 	}
 
 	public String toString(boolean withUnit, boolean withSpace, int precision) {
-		final StringBuilder sb = new StringBuilder();
-		sb.append(getValue());
+		final StringBuilder sb = new StringBuilder(DoubleToDecimal.MAX_CHARS + 4);
+		DoubleToDecimal.appendTo(value, sb);
 		if (withUnit) {
 			if (withSpace)
 				sb.append(" ");
@@ -137,8 +157,8 @@ public class TimeQuantity extends AbstractQuantity<Time> implements Time {
 		return unit;
 	}
 
-	public Quantity<Time> multiply(Number that) {
-		return new TimeQuantity(value.doubleValue() * that.doubleValue(), unit);
+	public TimeQuantity multiply(Number that) {
+		return new TimeQuantity(value * that.doubleValue(), unit);
 	}
 
 	public Quantity<Time> to(Unit<Time> unit) {
@@ -153,38 +173,36 @@ public class TimeQuantity extends AbstractQuantity<Time> implements Time {
 		return eq((TimeQuantity) dq);
 	}
 
+	@SuppressWarnings("unchecked")
 	public Quantity<?> divide(Quantity<?> that) {
-		// TODO Auto-generated method stub
-		return null;
+		if (unit.isCompatible(that.getUnit())) {
+			return new DimensionlessQuantity(value / valueIn((Quantity<Time>) that, unit), DimensionlessUnit.ONE);
+		}
+		return divide(dimensionlessValue(that));
 	}
 
-	public Quantity<Time> subtract(Quantity<Time> that) {
-		// TODO Auto-generated method stub
-		return null;
+	public TimeQuantity subtract(Quantity<Time> that) {
+		return new TimeQuantity(value - valueIn(that, unit), unit);
 	}
 
-	public Quantity<Time> add(Quantity<Time> that) {
-		// TODO Auto-generated method stub
-		return null;
+	public TimeQuantity add(Quantity<Time> that) {
+		return new TimeQuantity(value + valueIn(that, unit), unit);
 	}
 
-	public Quantity<Time> divide(Number that) {
-		// TODO Auto-generated method stub
-		return null;
+	public TimeQuantity divide(Number that) {
+		return new TimeQuantity(value / that.doubleValue(), unit);
 	}
 
 	public Quantity<Time> inverse() {
-		// TODO Auto-generated method stub
-		return null;
+		throw new UnsupportedOperationException("Inverse units are not supported: " + unit);
 	}
 
 	public Quantity<?> multiply(Quantity<?> that) {
-		return new TimeQuantity(value.doubleValue() * that.getValue().doubleValue(), unit);
+		return multiply(dimensionlessValue(that));
 	}
 
 	public int compareTo(Quantity<Time> o) {
-		// TODO Auto-generated method stub
-		return 0;
+		return Double.compare(value, valueIn(o, unit));
 	}
 	
 	@Override
@@ -0,0 +1,67 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * Creates the quantities of one class of units, typically an enum of units, for {@link Quantities#getQuantity(Number, Unit)}.
+ * <p>
+ * Third-party units are plugged in by implementing this interface and listing the implementation in
+ * <code>META-INF/services/tech.uom.impl.enums.quantity.UnitQuantityFactory</code>. Factories are loaded once, on the first quantity
+ * created through {@link Quantities}; a factory for a unit class of this implementation replaces the built-in one.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public interface UnitQuantityFactory {
+
+	/**
+	 * Returns the class of the units this factory creates quantities for. It is also used for subclasses, such as enum constants with a
+	 * body.
+	 *
+	 * @return the unit class.
+	 */
+	Class<?> getUnitType();
+
+	/**
+	 * Creates a quantity.
+	 *
+	 * @param value
+	 *            the value of the quantity, not <code>null</code>.
+	 * @param unit
+	 *            the unit of the quantity, an instance of the {@link #getUnitType() unit class}.
+	 * @return the quantity.
+	 */
+	Quantity<?> create(Number value, Unit<?> unit);
+}
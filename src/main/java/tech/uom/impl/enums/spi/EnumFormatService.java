@@ -0,0 +1,103 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.measure.format.QuantityFormat;
+import javax.measure.format.UnitFormat;
+import javax.measure.spi.FormatService;
+
+import tech.uom.impl.enums.format.SimpleQuantityFormat;
+import tech.uom.impl.enums.format.SimpleUnitFormat;
+
+/**
+ * Provides the formats of this implementation. The unit format is named <code>"Simple"</code>; quantity formats are
+ * <code>"Simple"</code> and <code>"Decimal"</code>, which parses values as <code>BigDecimal</code>. <code>"Default"</code> names the
+ * simple formats. Names are case-insensitive.
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class EnumFormatService implements FormatService {
+
+	private static final String DEFAULT = "Default";
+	private static final String SIMPLE = "Simple";
+	private static final String DECIMAL = "Decimal";
+
+	private static final Set<String> UNIT_FORMAT_NAMES = Collections.singleton(SIMPLE);
+	private static final Set<String> QUANTITY_FORMAT_NAMES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(SIMPLE, DECIMAL)));
+
+	@Override
+	public QuantityFormat getQuantityFormat() {
+		return SimpleQuantityFormat.getInstance();
+	}
+
+	@Override
+	public QuantityFormat getQuantityFormat(String name) {
+		if (DEFAULT.equalsIgnoreCase(name) || SIMPLE.equalsIgnoreCase(name)) {
+			return SimpleQuantityFormat.getInstance();
+		}
+		if (DECIMAL.equalsIgnoreCase(name)) {
+			return SimpleQuantityFormat.getDecimalInstance();
+		}
+		return null;
+	}
+
+	@Override
+	public UnitFormat getUnitFormat() {
+		return SimpleUnitFormat.getInstance();
+	}
+
+	@Override
+	public UnitFormat getUnitFormat(String name) {
+		if (DEFAULT.equalsIgnoreCase(name) || SIMPLE.equalsIgnoreCase(name)) {
+			return SimpleUnitFormat.getInstance();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the unit format of the specified name, there are no variants.
+	 */
+	@Override
+	public UnitFormat getUnitFormat(String name, String variant) {
+		return getUnitFormat(name);
+	}
+
+	@Override
+	public Set<String> getAvailableFormatNames(FormatType type) {
+		return type == FormatType.UNIT_FORMAT ? UNIT_FORMAT_NAMES : QUANTITY_FORMAT_NAMES;
+	}
+}
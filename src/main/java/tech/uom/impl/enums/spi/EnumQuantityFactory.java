@@ -0,0 +1,89 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.spi;
+
+import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
+import javax.measure.spi.QuantityFactory;
+
+import tech.uom.impl.enums.quantity.Quantities;
+import tech.uom.impl.enums.unit.Units;
+
+/**
+ * Creates quantities of one quantity type through {@link Quantities#getQuantity(Number, Unit)}.
+ *
+ * @param <Q>
+ *            the quantity type.
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class EnumQuantityFactory<Q extends Quantity<Q>> implements QuantityFactory<Q> {
+
+	private final Unit<Q> systemUnit;
+
+	private EnumQuantityFactory(Unit<Q> systemUnit) {
+		this.systemUnit = systemUnit;
+	}
+
+	/**
+	 * Returns the factory of the specified quantity type, or <code>null</code> if {@link Units} has no unit of that type.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static QuantityFactory<?> of(Class<?> quantityType) {
+		final Unit<?> systemUnit = Units.getInstance().getUnit((Class) quantityType);
+		return systemUnit == null ? null : new EnumQuantityFactory(systemUnit);
+	}
+
+	/**
+	 * Returns a quantity of the specified value and unit. The scale is given by the unit, absolute for the system unit of temperatures and
+	 * relative otherwise, the scale argument is ignored.
+	 */
+	@Override
+	public Quantity<Q> create(Number value, Unit<Q> unit, Scale scale) {
+		return Quantities.getQuantity(value, unit);
+	}
+
+	@Override
+	public Quantity<Q> create(Number value, Unit<Q> unit) {
+		return Quantities.getQuantity(value, unit);
+	}
+
+	@Override
+	public Unit<Q> getSystemUnit() {
+		return systemUnit;
+	}
+
+	@Override
+	public String toString() {
+		return "EnumQuantityFactory(" + systemUnit + ")";
+	}
+}
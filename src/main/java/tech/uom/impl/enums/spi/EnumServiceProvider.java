@@ -0,0 +1,106 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.spi;
+
+import javax.measure.Quantity;
+import javax.measure.spi.FormatService;
+import javax.measure.spi.QuantityFactory;
+import javax.measure.spi.ServiceProvider;
+import javax.measure.spi.SystemOfUnitsService;
+
+/**
+ * The {@link ServiceProvider} of this implementation, registered in <code>META-INF/services</code> so that
+ * {@link ServiceProvider#current()} finds it.
+ * <p>
+ * Creating the provider loads no other class. The services and quantity factories are created on first use, through holder classes and a
+ * {@link ClassValue}, without reflection or proxies.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class EnumServiceProvider extends ServiceProvider {
+
+	/**
+	 * Creates the provider, called by {@link java.util.ServiceLoader}.
+	 */
+	public EnumServiceProvider() {
+	}
+
+	@Override
+	public SystemOfUnitsService getSystemOfUnitsService() {
+		return SystemOfUnitsServiceHolder.INSTANCE;
+	}
+
+	@Override
+	public FormatService getFormatService() {
+		return FormatServiceHolder.INSTANCE;
+	}
+
+	/**
+	 * Returns the quantity factory of the specified quantity type.
+	 *
+	 * @param <Q>
+	 *            the compile-time quantity type.
+	 * @param quantityType
+	 *            the quantity type.
+	 * @return the quantity factory, or <code>null</code> if the quantity type has no unit in this implementation.
+	 * @throws NullPointerException
+	 *             if the quantity type is <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <Q extends Quantity<Q>> QuantityFactory<Q> getQuantityFactory(Class<Q> quantityType) {
+		return (QuantityFactory<Q>) QuantityFactoryHolder.BY_TYPE.get(quantityType);
+	}
+
+	@Override
+	public String toString() {
+		return "EnumServiceProvider";
+	}
+
+	private static final class SystemOfUnitsServiceHolder {
+		static final SystemOfUnitsService INSTANCE = new EnumSystemOfUnitsService();
+	}
+
+	private static final class FormatServiceHolder {
+		static final FormatService INSTANCE = new EnumFormatService();
+	}
+
+	private static final class QuantityFactoryHolder {
+		static final ClassValue<QuantityFactory<?>> BY_TYPE = new ClassValue<QuantityFactory<?>>() {
+			@Override
+			protected QuantityFactory<?> computeValue(Class<?> type) {
+				return EnumQuantityFactory.of(type);
+			}
+		};
+	}
+}
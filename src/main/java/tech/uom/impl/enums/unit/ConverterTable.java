@@ -0,0 +1,87 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.unit;
+
+import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.MultiplyConverter;
+import tech.uom.impl.enums.function.RationalConverter;
+import tech.uom.impl.enums.function.RationalFactorSupplier;
+import tech.uom.lib.common.function.DoubleFactorSupplier;
+
+/**
+ * Builds the converter tables of our unit enums, indexed by the ordinals of source and target unit.
+ * Tables are built once at class initialization, so looking up a converter never allocates.
+ *
+ * @author Werner Keil
+ * @version 1.1, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class ConverterTable {
+
+	private ConverterTable() {
+	}
+
+	/**
+	 * Returns the table of converters between units which differ only by a scaling factor.
+	 *
+	 * @param units
+	 *            the units in ordinal order.
+	 * @return the converters, <code>[from.ordinal()][to.ordinal()]</code>.
+	 */
+	static AbstractConverter[][] ofFactors(DoubleFactorSupplier[] units) {
+		final AbstractConverter[][] table = new AbstractConverter[units.length][units.length];
+		for (int i = 0; i < units.length; i++) {
+			for (int j = 0; j < units.length; j++) {
+				table[i][j] = (i == j) ? AbstractConverter.IDENTITY
+						: MultiplyConverter.of(units[i].getFactor() / units[j].getFactor());
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the table of converters between units which differ only by an exact rational factor.
+	 *
+	 * @param units
+	 *            the units in ordinal order.
+	 * @return the {@link RationalConverter rational converters}, <code>[from.ordinal()][to.ordinal()]</code>.
+	 */
+	static AbstractConverter[][] ofFactors(RationalFactorSupplier[] units) {
+		final AbstractConverter[][] table = new AbstractConverter[units.length][units.length];
+		for (int i = 0; i < units.length; i++) {
+			for (int j = 0; j < units.length; j++) {
+				table[i][j] = (i == j) ? AbstractConverter.IDENTITY
+						: RationalConverter.of(Math.multiplyExact(units[i].getDividend(), units[j].getDivisor()),
+								Math.multiplyExact(units[i].getDivisor(), units[j].getDividend()));
+			}
+		}
+		return table;
+	}
+}
@@ -32,6 +32,7 @@
  */
 package tech.uom.impl.enums.unit;
 
+import tech.uom.impl.enums.function.AbstractConverter;
 import tech.uom.lib.common.function.DoubleFactorSupplier;
 
 import java.util.HashMap;
@@ -48,7 +49,7 @@ import javax.measure.quantity.Dimensionless;
 
 /**
  * @author Werner Keil
- * @version 1.4, $Date: 2019-02-04 $
+ * @version 1.5, $Date: 2026-10-18 $
  */
 public enum DimensionlessUnit implements Unit<Dimensionless>, DoubleFactorSupplier {
 	ONE("", 1.0); // reference Unit
@@ -56,6 +57,11 @@ public enum DimensionlessUnit implements Unit<Dimensionless>, DoubleFactorSuppli
 	private final String description;
 	private final double multFactor;
 
+	/**
+	 * Converters between all dimensionless units, <code>[from.ordinal()][to.ordinal()]</code>.
+	 */
+	private static final AbstractConverter[][] CONVERTERS = ConverterTable.ofFactors(values());
+
 	private DimensionlessUnit(String name, double multF) {
 		this.description = name;
 		this.multFactor = multF;
@@ -84,13 +90,17 @@ public enum DimensionlessUnit implements Unit<Dimensionless>, DoubleFactorSuppli
 	}
 
 	public UnitConverter getConverterTo(Unit<Dimensionless> that) throws UnconvertibleException {
-		// currently unused
-		return null;
+		if (that instanceof DimensionlessUnit) {
+			return CONVERTERS[ordinal()][((DimensionlessUnit) that).ordinal()];
+		}
+		throw new UnconvertibleException(this + " is not convertible to " + that);
 	}
 
 	public UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
-		// currently unused
-		return null;
+		if (that instanceof DimensionlessUnit) {
+			return CONVERTERS[ordinal()][((DimensionlessUnit) that).ordinal()];
+		}
+		throw new IncommensurableException(this + " is not compatible with " + that);
 	}
 
 	public Unit<Dimensionless> alternate(String s) {
@@ -32,7 +32,8 @@
  */
 package tech.uom.impl.enums.unit;
 
-import tech.uom.lib.common.function.DoubleFactorSupplier;
+import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.RationalFactorSupplier;
 import tech.uom.lib.common.util.DescriptiveEnum;
 
 import java.util.HashMap;
@@ -49,21 +50,51 @@ import javax.measure.quantity.Length;
 
 /**
  * @author Werner Keil
- * @version 1.5, $Date: 2019-02-04 $
+ * @version 1.8, $Date: 2026-10-18 $
  */
-public enum DistanceUnit implements Unit<Length>, DoubleFactorSupplier, DescriptiveEnum<DistanceUnit> {
-    METRE("m", "m", 1.0), // reference Unit
-    KILOMETRE("km", "km", 1.0e3);
+public enum DistanceUnit implements Unit<Length>, RationalFactorSupplier, DescriptiveEnum<DistanceUnit> {
+    METRE("m", "m", 1, 1) { // reference Unit
+        @Override
+        public double toMetres(double d) {
+            return d;
+        }
+    },
+    KILOMETRE("km", "km", 1000, 1) {
+        @Override
+        public double toMetres(double d) {
+            return d * 1.0e3;
+        }
+    };
 
     private final String symbol;
     private final String description;
+    private final long dividend;
+    private final long divisor;
     private final double multFactor;
 
-    private DistanceUnit(final String symbol, final String name, double multF) {
+    /**
+     * Converters between all distance units, <code>[from.ordinal()][to.ordinal()]</code>.
+     */
+    private static final AbstractConverter[][] CONVERTERS = ConverterTable.ofFactors(values());
+
+    private DistanceUnit(final String symbol, final String name, long dividend, long divisor) {
         this.symbol = symbol;
         this.description = name;
-        this.multFactor = multF;
-    }
+        this.dividend = dividend;
+        this.divisor = divisor;
+        this.multFactor = (double) dividend / divisor;
+    }
+
+    /**
+     * Converts the given value in this unit to metres. Each constant implements it with a literal factor, so the conversion folds
+     * into the caller when the unit is known at compile time.
+     *
+     * @param d
+     *            the value in this unit.
+     * @return the value in {@link #METRE metres}.
+     * @since 2.2
+     */
+    public abstract double toMetres(double d);
 
     public String getSymbol() {
         return symbol;
@@ -73,6 +104,20 @@ public enum DistanceUnit implements Unit<Length>, DoubleFactorSupplier, Descript
         return multFactor;
     }
 
+    /**
+     * @since 2.2
+     */
+    public long getDividend() {
+        return dividend;
+    }
+
+    /**
+     * @since 2.2
+     */
+    public long getDivisor() {
+        return divisor;
+    }
+
     public Unit<Length> getSystemUnit() {
         return METRE;
     }
@@ -95,13 +140,17 @@ public enum DistanceUnit implements Unit<Length>, DoubleFactorSupplier, Descript
     }
 
     public UnitConverter getConverterTo(Unit<Length> that) throws UnconvertibleException {
-        // currently unused
-        return null;
+        if (that instanceof DistanceUnit) {
+            return CONVERTERS[ordinal()][((DistanceUnit) that).ordinal()];
+        }
+        throw new UnconvertibleException(this + " is not convertible to " + that);
     }
 
     public UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
-        // currently unused
-        return null;
+        if (that instanceof DistanceUnit) {
+            return CONVERTERS[ordinal()][((DistanceUnit) that).ordinal()];
+        }
+        throw new IncommensurableException(this + " is not compatible with " + that);
     }
 
     public Unit<Length> alternate(String s) {
@@ -32,8 +32,10 @@ package tech.uom.impl.enums.unit;
 import javax.measure.UnitConverter;
 
 import tech.uom.impl.enums.format.SimpleUnitFormat;
+import tech.uom.impl.enums.function.ConverterCompiler;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.measure.Dimension;
 import javax.measure.IncommensurableException;
@@ -53,9 +55,14 @@ import javax.measure.Unit;
  * FOOT.mix(INCH); </code>
  * </p>
  *
+ * <p>
+ * Numeric values of a mixed unit are stated in its lower unit. Converters to other units are {@link ConverterCompiler compiled} once
+ * and cached.
+ * </p>
+ *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.0, Oct 3, 2020
+ * @version 2.1, Oct 18, 2026
  * @since 2.0
  */
 public final class MixedUnit<Q extends Quantity<Q>> implements Unit<Q> {
@@ -70,6 +77,11 @@ public final class MixedUnit<Q extends Quantity<Q>> implements Unit<Q> {
      */
     private final Unit<Q> lower;
 
+    /**
+     * Holds the compiled converters by target unit.
+     */
+    private final Map<Unit<?>, UnitConverter> converters = new ConcurrentHashMap<>();
+
     /**
      * Creates a mixed unit from the specified units.
      *
@@ -157,8 +169,7 @@ public final class MixedUnit<Q extends Quantity<Q>> implements Unit<Q> {
 
     @Override
     public boolean isCompatible(Unit<?> that) {
-        // TODO Auto-generated method stub
-        return false;
+        return lower.isCompatible(lowest(that));
     }
 
     @Override
@@ -167,16 +178,35 @@ public final class MixedUnit<Q extends Quantity<Q>> implements Unit<Q> {
         return null;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public UnitConverter getConverterTo(Unit<Q> that) throws UnconvertibleException {
-        // TODO Auto-generated method stub
-        return null;
+        UnitConverter cvtr = converters.get(that);
+        if (cvtr == null) {
+            cvtr = ConverterCompiler.compile(lower.getConverterTo((Unit<Q>) lowest(that)));
+            converters.put(that, cvtr);
+        }
+        return cvtr;
     }
 
     @Override
     public UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
-        // TODO Auto-generated method stub
-        return null;
+        UnitConverter cvtr = converters.get(that);
+        if (cvtr == null) {
+            cvtr = ConverterCompiler.compile(lower.getConverterToAny(lowest(that)));
+            converters.put(that, cvtr);
+        }
+        return cvtr;
+    }
+
+    /**
+     * Returns the unit values of the specified unit are stated in, its lowest unit if it is a mixed unit.
+     */
+    private static Unit<?> lowest(Unit<?> unit) {
+        while (unit instanceof MixedUnit) {
+            unit = ((MixedUnit<?>) unit).lower;
+        }
+        return unit;
     }
 
     @Override
@@ -31,11 +31,14 @@ package tech.uom.impl.enums.unit;
 
 import tech.uom.lib.common.function.DescriptionSupplier;
 import tech.uom.lib.common.function.DoubleFactorSupplier;
-import tech.uom.impl.enums.DimensionalModel;
 import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.AffineConverter;
 
 import static tech.uom.impl.enums.unit.Constants.DEG;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -50,27 +53,56 @@ import javax.measure.quantity.Temperature;
 
 /**
  * @author Werner Keil
- * @version 1.0, $Date: 2020-10-03 $
+ * @version 1.3, $Date: 2026-10-18 $
  */
 public enum TemperatureUnit implements Unit<Temperature>, DoubleFactorSupplier, DescriptionSupplier {
 
 	/** Kelvin, commonly used in scientific endeavors. */
-	KELVIN(1d, 0d, null, 273.15d, 373.15d, "K", "William Thomson, 1st Baron Kelvin"),
+	KELVIN(1, 1, 0d, null, 273.15d, 373.15d, "K", "William Thomson, 1st Baron Kelvin") {
+		@Override
+		public double toKelvin(double d) {
+			return d;
+		}
+	},
 
 	/** Rankine, used in scientific endeavors. */
-	RANKINE(5 / 9, 0d, KELVIN, 491.67d, 671.641d, DEG + "R", "William John Macquorn Rankine"),
+	RANKINE(5, 9, 0d, KELVIN, 491.67d, 671.641d, DEG + "R", "William John Macquorn Rankine") {
+		@Override
+		public double toKelvin(double d) {
+			return d / 1.8d;
+		}
+	},
 
 	/** Celsius, used by most of the world's population. */
-	CELSIUS(0d, 273.15d, KELVIN, 0d, 100d, DEG + "C", "Anders Celsius"),
+	CELSIUS(1, 1, 273.15d, KELVIN, 0d, 100d, DEG + "C", "Anders Celsius") {
+		@Override
+		public double toKelvin(double d) {
+			return d + 273.15d;
+		}
+	},
 
 	/** Fahrenheit, commonly used in the United States. */
-	FAHRENHEIT(0d, 459.67d, RANKINE, 32d, 212d, DEG + "F", "Daniel Gabriel Fahrenheit");
+	FAHRENHEIT(1, 1, 459.67d, RANKINE, 32d, 212d, DEG + "F", "Daniel Gabriel Fahrenheit") {
+		@Override
+		public double toKelvin(double d) {
+			return (d + 459.67d) / 1.8d;
+		}
+	};
 
 	/** Units by which this temperature scale is expressed. */
 	private final String description;
 
 	private final double multFactor;
 
+	/** Numerator of the factor to the relative unit. */
+	private final long dividend;
+
+	/** Denominator of the factor to the relative unit. */
+	private final long divisor;
+
+	/** Offset added after scaling to obtain the value in the relative unit. */
+	private final double offset;
+
 	/** Freezing point of water for each temperature scale. */
 	private final double freezingPoint;
 
@@ -88,10 +120,23 @@ public enum TemperatureUnit implements Unit<Temperature>, DoubleFactorSupplier,
 	// private static final Double KELVIN_CELSIUS_DELTA = new Double("273");
 	private static final double RANKINE_FAHRENHEIT_DELTA = 459.67d;
 
+	/**
+	 * Converters between all temperature units, <code>[from.ordinal()][to.ordinal()]</code>.
+	 */
+	private static final AbstractConverter[][] CONVERTERS = converters();
+
 	/**
 	 * Constructor for TemperatureUnit that accepts key characteristics of each
 	 * temperature scale.
 	 *
+	 * @param newDividend
+	 *            Numerator of the factor to the relative temperature scale.
+	 * @param newDivisor
+	 *            Denominator of the factor to the relative temperature scale.
+	 * @param shift
+	 *            Offset to the relative temperature scale, applied after the factor.
+	 * @param rel
+	 *            Temperature scale this one is defined by, <code>null</code> for the reference unit.
 	 * @param newFreezingPoint
 	 *            Freezing point for this temperature scale.
 	 * @param newBoilingPoint
@@ -101,9 +146,12 @@ public enum TemperatureUnit implements Unit<Temperature>, DoubleFactorSupplier,
 	 * @param newNamedFor
 	 *            Name of person after which temperature scale was named.
 	 */
-	private TemperatureUnit(double newMult, double shift, final TemperatureUnit rel, double newFreezingPoint,
-			double newBoilingPoint, final String newSymbol, final String newNamedFor) {
-		this.multFactor = newMult;
+	private TemperatureUnit(long newDividend, long newDivisor, double shift, final TemperatureUnit rel,
+			double newFreezingPoint, double newBoilingPoint, final String newSymbol, final String newNamedFor) {
+		this.dividend = newDividend;
+		this.divisor = newDivisor;
+		this.multFactor = (double) newDividend / newDivisor;
+		this.offset = shift;
 		this.relativeTo = rel;
 		this.freezingPoint = newFreezingPoint;
 		this.boilingPoint = newBoilingPoint;
@@ -111,6 +159,17 @@ public enum TemperatureUnit implements Unit<Temperature>, DoubleFactorSupplier,
 		this.namedFor = newNamedFor;
 	}
 
+	/**
+	 * Converts the given temperature in this unit to kelvin. Each constant implements it with literal factors and offsets, so the
+	 * conversion folds into the caller when the unit is known at compile time.
+	 *
+	 * @param d
+	 *            the temperature in this unit.
+	 * @return the temperature in {@link #KELVIN kelvin}.
+	 * @since 2.2
+	 */
+	public abstract double toKelvin(double d);
+
 	public String getSymbol() {
 		return description;
 	}
@@ -144,24 +203,112 @@ public enum TemperatureUnit implements Unit<Temperature>, DoubleFactorSupplier,
 	}
 
 	public UnitConverter getConverterTo(Unit<Temperature> that) throws UnconvertibleException {
-		if ((this == that) || this.equals(that))
-			return AbstractConverter.IDENTITY; // Shortcut.
-		Unit<Temperature> thisSystemUnit = this.getSystemUnit();
-		Unit<Temperature> thatSystemUnit = that.getSystemUnit();
-		if (!thisSystemUnit.equals(thatSystemUnit))
-			try {
-				return getConverterToAny(that);
-			} catch (IncommensurableException e) {
-				throw new UnconvertibleException(e);
-			}
-		return that.getConverterTo(thatSystemUnit);
+		if (that instanceof TemperatureUnit) {
+			return CONVERTERS[ordinal()][((TemperatureUnit) that).ordinal()];
+		}
+		throw new UnconvertibleException(this + " is not convertible to " + that);
 	}
 
 	public UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
 		if (!isCompatible(that))
 			throw new IncommensurableException(this + " is not compatible with " + that);
-		DimensionalModel model = DimensionalModel.current();
-		return model.getDimensionalTransform(this.getSystemUnit().getDimension()); // .concatenate(this.getConverterToSI());
+		return CONVERTERS[ordinal()][((TemperatureUnit) that).ordinal()];
+	}
+
+	/**
+	 * Returns the exact map from this unit to {@link #KELVIN}, following the chain of relative units.
+	 */
+	private ExactAffine exactToKelvin() {
+		if (relativeTo == null) {
+			return ExactAffine.IDENTITY;
+		}
+		return relativeTo.exactToKelvin().after(new ExactAffine(dividend, divisor, offset));
+	}
+
+	/**
+	 * Derives each converter from the exact scale and offset between the two units, rounded once to
+	 * <code>double</code>. Where the scale has no finite decimal expansion (5/9 from Fahrenheit to Celsius), the
+	 * converter is the inverse of the opposite direction, which divides by the finite scale (1.8) instead, so that
+	 * 212&nbsp;°F converts to exactly 100&nbsp;°C.
+	 */
+	private static AbstractConverter[][] converters() {
+		final TemperatureUnit[] units = values();
+		final AbstractConverter[][] table = new AbstractConverter[units.length][units.length];
+		for (int i = 0; i < units.length; i++) {
+			for (int j = 0; j < units.length; j++) {
+				if (i == j) {
+					table[i][j] = AbstractConverter.IDENTITY;
+					continue;
+				}
+				final ExactAffine exact = units[j].exactToKelvin().inverse().after(units[i].exactToKelvin());
+				final ExactAffine inverse = exact.inverse();
+				table[i][j] = exact.isScaleFinite() || !inverse.isScaleFinite()
+						? AffineConverter.of(exact.scale(), exact.offset())
+						: AffineConverter.of(inverse.scale(), inverse.offset()).inverse();
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Affine map <code>y = scale * x + offset</code> with scale and offset held as exact fractions of decimals.
+	 */
+	private static final class ExactAffine {
+		static final ExactAffine IDENTITY = new ExactAffine(BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ZERO,
+				BigDecimal.ONE);
+
+		private final BigDecimal scaleNum;
+		private final BigDecimal scaleDen;
+		private final BigDecimal offsetNum;
+		private final BigDecimal offsetDen;
+
+		ExactAffine(long dividend, long divisor, double offset) {
+			this(BigDecimal.valueOf(dividend), BigDecimal.valueOf(divisor), BigDecimal.valueOf(offset), BigDecimal.ONE);
+		}
+
+		private ExactAffine(BigDecimal scaleNum, BigDecimal scaleDen, BigDecimal offsetNum, BigDecimal offsetDen) {
+			this.scaleNum = scaleNum;
+			this.scaleDen = scaleDen;
+			this.offsetNum = offsetNum;
+			this.offsetDen = offsetDen;
+		}
+
+		/** Returns the map applying <code>that</code> first, then this one. */
+		ExactAffine after(ExactAffine that) {
+			return new ExactAffine(scaleNum.multiply(that.scaleNum), scaleDen.multiply(that.scaleDen),
+					scaleNum.multiply(that.offsetNum).multiply(offsetDen)
+							.add(offsetNum.multiply(scaleDen).multiply(that.offsetDen)),
+					scaleDen.multiply(that.offsetDen).multiply(offsetDen));
+		}
+
+		ExactAffine inverse() {
+			return new ExactAffine(scaleDen, scaleNum, offsetNum.multiply(scaleDen).negate(),
+					offsetDen.multiply(scaleNum));
+		}
+
+		/**
+		 * Indicates if the scale has a finite decimal expansion, that is if its reduced denominator only has the prime
+		 * factors 2 and 5.
+		 */
+		boolean isScaleFinite() {
+			final BigInteger num = scaleNum.unscaledValue();
+			BigInteger den = scaleDen.unscaledValue();
+			den = den.divide(den.gcd(num)).abs();
+			for (BigInteger p : new BigInteger[] { BigInteger.valueOf(2), BigInteger.valueOf(5) }) {
+				while (den.mod(p).signum() == 0) {
+					den = den.divide(p);
+				}
+			}
+			return den.equals(BigInteger.ONE);
+		}
+
+		double scale() {
+			return scaleNum.divide(scaleDen, MathContext.DECIMAL128).doubleValue();
+		}
+
+		double offset() {
+			return offsetNum.divide(offsetDen, MathContext.DECIMAL128).doubleValue();
+		}
 	}
 
 	public Unit<Temperature> alternate(String s) {
@@ -29,8 +29,10 @@
  */
 package tech.uom.impl.enums.unit;
 
-import tech.uom.lib.common.function.DoubleFactorSupplier;
+import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.RationalFactorSupplier;
 
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -45,22 +47,170 @@ import javax.measure.quantity.Time;
 
 /**
  * @author Werner Keil
- * @version 1.7, $Date: 2020-10-03 $
+ * @version 1.11, $Date: 2026-10-18 $
  */
-public enum TimeUnit implements Unit<Time>, DoubleFactorSupplier {
+public enum TimeUnit implements Unit<Time>, RationalFactorSupplier {
 
-	SECOND("s", 1.0), // reference Unit
-	MINUTE("m", 60), HOUR("h", 60 * 60),
-	MILLISECOND("ms", .001);
+	SECOND("s", 1, 1, java.util.concurrent.TimeUnit.SECONDS, ChronoUnit.SECONDS) { // reference Unit
+		@Override
+		public double toSeconds(double d) {
+			return d;
+		}
+	},
+	MINUTE("m", 60, 1, java.util.concurrent.TimeUnit.MINUTES, ChronoUnit.MINUTES) {
+		@Override
+		public double toSeconds(double d) {
+			return d * 60d;
+		}
+	},
+	HOUR("h", 60 * 60, 1, java.util.concurrent.TimeUnit.HOURS, ChronoUnit.HOURS) {
+		@Override
+		public double toSeconds(double d) {
+			return d * 3600d;
+		}
+	},
+	MILLISECOND("ms", 1, 1000, java.util.concurrent.TimeUnit.MILLISECONDS, ChronoUnit.MILLIS) {
+		@Override
+		public double toSeconds(double d) {
+			return d * .001;
+		}
+	},
+	NANOSECOND("ns", 1, 1_000_000_000, java.util.concurrent.TimeUnit.NANOSECONDS, ChronoUnit.NANOS) {
+		@Override
+		public double toSeconds(double d) {
+			return d * 1e-9;
+		}
+	},
+	MICROSECOND("\u00b5s", 1, 1_000_000, java.util.concurrent.TimeUnit.MICROSECONDS, ChronoUnit.MICROS) {
+		@Override
+		public double toSeconds(double d) {
+			return d * 1e-6;
+		}
+	},
+	DAY("d", 24 * 60 * 60, 1, java.util.concurrent.TimeUnit.DAYS, ChronoUnit.DAYS) {
+		@Override
+		public double toSeconds(double d) {
+			return d * 86400d;
+		}
+	};
 
 	private final String symbol;
+	private final long dividend;
+	private final long divisor;
 	private final double multFactor;
+	private final long nanos;
+	private final java.util.concurrent.TimeUnit concurrentUnit;
+	private final ChronoUnit chronoUnit;
+
+	/**
+	 * Converters between all time units, <code>[from.ordinal()][to.ordinal()]</code>.
+	 */
+	private static final AbstractConverter[][] CONVERTERS = ConverterTable.ofFactors(values());
+
+	/**
+	 * Our units by the ordinal of the corresponding <code>java.util.concurrent.TimeUnit</code>.
+	 */
+	private static final TimeUnit[] BY_CONCURRENT_UNIT = new TimeUnit[java.util.concurrent.TimeUnit.values().length];
+
+	/**
+	 * Our units by the ordinal of the corresponding <code>ChronoUnit</code>, <code>null</code> for those without.
+	 */
+	private static final TimeUnit[] BY_CHRONO_UNIT = new TimeUnit[ChronoUnit.values().length];
+
+	static {
+		for (TimeUnit unit : values()) {
+			BY_CONCURRENT_UNIT[unit.concurrentUnit.ordinal()] = unit;
+			BY_CHRONO_UNIT[unit.chronoUnit.ordinal()] = unit;
+		}
+	}
 
-	private TimeUnit(String s, double multF) {
+	private TimeUnit(String s, long dividend, long divisor, java.util.concurrent.TimeUnit concurrentUnit, ChronoUnit chronoUnit) {
 		this.symbol = s;
-		this.multFactor = multF;
+		this.dividend = dividend;
+		this.divisor = divisor;
+		this.multFactor = (double) dividend / divisor;
+		this.nanos = dividend * 1_000_000_000L / divisor;
+		this.concurrentUnit = concurrentUnit;
+		this.chronoUnit = chronoUnit;
+	}
+
+	/**
+	 * Converts the given duration in this unit to nanoseconds exactly, unlike
+	 * {@link java.util.concurrent.TimeUnit#toNanos(long)} which saturates.
+	 *
+	 * @param d
+	 *            the duration in this unit.
+	 * @return the duration in {@link #NANOSECOND nanoseconds}.
+	 * @throws ArithmeticException
+	 *             if the result overflows <code>long</code>.
+	 * @since 2.2
+	 */
+	public long toNanos(long d) {
+		return Math.multiplyExact(d, nanos);
 	}
 
+	/**
+	 * Returns the corresponding unit of <code>java.util.concurrent</code>.
+	 *
+	 * @return the <code>java.util.concurrent.TimeUnit</code> of the same duration.
+	 * @since 2.2
+	 */
+	public java.util.concurrent.TimeUnit toTimeUnit() {
+		return concurrentUnit;
+	}
+
+	/**
+	 * Returns the corresponding unit of <code>java.time</code>.
+	 *
+	 * @return the <code>ChronoUnit</code> of the same duration.
+	 * @since 2.2
+	 */
+	public ChronoUnit toChronoUnit() {
+		return chronoUnit;
+	}
+
+	/**
+	 * Returns the unit corresponding to a unit of <code>java.util.concurrent</code>.
+	 *
+	 * @param unit
+	 *            the <code>java.util.concurrent.TimeUnit</code>.
+	 * @return the time unit of the same duration.
+	 * @since 2.2
+	 */
+	public static TimeUnit of(java.util.concurrent.TimeUnit unit) {
+		return BY_CONCURRENT_UNIT[unit.ordinal()];
+	}
+
+	/**
+	 * Returns the unit corresponding to a unit of <code>java.time</code>.
+	 *
+	 * @param unit
+	 *            the <code>ChronoUnit</code>.
+	 * @return the time unit of the same duration.
+	 * @throws IllegalArgumentException
+	 *             if there is no time unit for <code>unit</code>, for example for {@link ChronoUnit#WEEKS}.
+	 * @since 2.2
+	 */
+	public static TimeUnit of(ChronoUnit unit) {
+		final TimeUnit result = BY_CHRONO_UNIT[unit.ordinal()];
+		if (result == null) {
+			throw new IllegalArgumentException("No time unit for " + unit);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts the given value in this unit to seconds, like the <code>toXxx</code> methods of
+	 * {@link java.util.concurrent.TimeUnit}. Each constant implements it with a literal factor, so the conversion folds into the
+	 * caller when the unit is known at compile time.
+	 *
+	 * @param d
+	 *            the value in this unit.
+	 * @return the value in {@link #SECOND seconds}.
+	 * @since 2.2
+	 */
+	public abstract double toSeconds(double d);
+
 	public String getSymbol() {
 		return symbol;
 	}
@@ -73,6 +223,20 @@ public enum TimeUnit implements Unit<Time>, DoubleFactorSupplier {
 		return multFactor;
 	}
 
+	/**
+	 * @since 2.2
+	 */
+	public long getDividend() {
+		return dividend;
+	}
+
+	/**
+	 * @since 2.2
+	 */
+	public long getDivisor() {
+		return divisor;
+	}
+
 	public Unit<Time> getSystemUnit() {
 		return SECOND;
 	}
@@ -94,13 +258,17 @@ public enum TimeUnit implements Unit<Time>, DoubleFactorSupplier {
 	}
 
 	public UnitConverter getConverterTo(Unit<Time> that) throws UnconvertibleException {
-		// currently unused
-		return null;
+		if (that instanceof TimeUnit) {
+			return CONVERTERS[ordinal()][((TimeUnit) that).ordinal()];
+		}
+		throw new UnconvertibleException(this + " is not convertible to " + that);
 	}
 
 	public UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException, UnconvertibleException {
-		// currently unused
-		return null;
+		if (that instanceof TimeUnit) {
+			return CONVERTERS[ordinal()][((TimeUnit) that).ordinal()];
+		}
+		throw new IncommensurableException(this + " is not compatible with " + that);
 	}
 
 	public Unit<Time> alternate(String s) {
@@ -0,0 +1,169 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.unit;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.measure.Dimension;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+import javax.measure.spi.SystemOfUnits;
+
+import tech.uom.impl.enums.quantity.ShirtSize;
+
+/**
+ * <p>
+ * The system of all enum units of this implementation: {@link DistanceUnit}, {@link TimeUnit}, {@link TemperatureUnit},
+ * {@link DimensionlessUnit} and {@link ShirtSizeUnit}.
+ * </p>
+ * <p>
+ * All units are registered when the class is initialized, lookups never lock. The system unit of a quantity type is resolved through a
+ * {@link ClassValue}, which caches it on the class itself. Sets of units are unmodifiable views, returned without copying.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.0, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+public final class Units implements SystemOfUnits {
+
+	private static final Units INSTANCE = new Units();
+
+	/**
+	 * Holds the system unit by quantity type.
+	 */
+	private final Map<Class<?>, Unit<?>> systemUnits = new HashMap<>();
+
+	/**
+	 * Holds the units by symbol, the first unit registered for a symbol wins.
+	 */
+	private final Map<String, Unit<?>> symbols = new HashMap<>();
+
+	/**
+	 * Holds the units by dimension.
+	 */
+	private final Map<Dimension, Set<Unit<?>>> dimensions = new HashMap<>();
+
+	/**
+	 * Holds all units, in registration order.
+	 */
+	private final Set<Unit<?>> units;
+
+	/**
+	 * Resolves the system unit of a quantity type, once per type.
+	 */
+	private final ClassValue<Unit<?>> systemUnitByType = new ClassValue<Unit<?>>() {
+		@Override
+		protected Unit<?> computeValue(Class<?> type) {
+			return systemUnits.get(type);
+		}
+	};
+
+	private Units() {
+		final Set<Unit<?>> all = new LinkedHashSet<>();
+		// Same order as SimpleUnitFormat, so "m" stands for METRE in both.
+		register(all, Length.class, DistanceUnit.values());
+		register(all, Time.class, TimeUnit.values());
+		register(all, Temperature.class, TemperatureUnit.values());
+		register(all, Dimensionless.class, DimensionlessUnit.values());
+		register(all, ShirtSize.class, ShirtSizeUnit.values());
+		units = Collections.unmodifiableSet(all);
+		for (Map.Entry<Dimension, Set<Unit<?>>> e : dimensions.entrySet()) {
+			e.setValue(Collections.unmodifiableSet(e.getValue()));
+		}
+	}
+
+	private void register(Set<Unit<?>> all, Class<? extends Quantity<?>> type, Unit<?>[] values) {
+		systemUnits.put(type, values[0].getSystemUnit());
+		for (Unit<?> unit : values) {
+			all.add(unit);
+			symbols.putIfAbsent(unit.getSymbol(), unit);
+			dimensions.computeIfAbsent(unit.getDimension(), d -> new LinkedHashSet<>()).add(unit);
+		}
+	}
+
+	/**
+	 * Returns the singleton instance of this class.
+	 *
+	 * @return the system of enum units.
+	 */
+	public static Units getInstance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public String getName() {
+		return "Enum Units";
+	}
+
+	/**
+	 * Returns the system unit of the specified quantity type.
+	 *
+	 * @param <Q>
+	 *            the compile-time quantity type.
+	 * @param quantityType
+	 *            the quantity type.
+	 * @return the system unit or <code>null</code> if the quantity type is not supported.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <Q extends Quantity<Q>> Unit<Q> getUnit(Class<Q> quantityType) {
+		return (Unit<Q>) systemUnitByType.get(quantityType);
+	}
+
+	@Override
+	public Unit<?> getUnit(String symbol) {
+		return symbols.get(symbol);
+	}
+
+	@Override
+	public Set<? extends Unit<?>> getUnits() {
+		return units;
+	}
+
+	@Override
+	public Set<? extends Unit<?>> getUnits(Dimension dimension) {
+		final Set<Unit<?>> result = dimensions.get(dimension);
+		return result != null ? result : Collections.<Unit<?>>emptySet();
+	}
+
+	@Override
+	public String toString() {
+		return getName();
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Arithmetic loops behind the bulk conversion of {@link MultiplyConverter}, {@link AddConverter} and {@link AffineConverter}.
+ * <p>
+ * This is the Java 17 version of the multi-release JAR. When the <code>jdk.incubator.vector</code> module is resolved (e.g. with
+ * <code>--add-modules jdk.incubator.vector</code>) ranges are processed with the preferred vector shape of the platform, otherwise
+ * with the same scalar loops as the Java 8 version. Both compute exactly the same values: the affine kernel rounds the product before
+ * the sum instead of using a fused multiply-add.
+ * </p>
+ * <p>
+ * The source range may overlap the destination range only if it does not start before it.
+ * </p>
+ *
+ * @author Werner Keil
+ * @version 1.3, $Date: 2026-10-18 $
+ * @since 2.2
+ */
+final class BulkKernels {
+
+    /**
+     * Ranges shorter than this are not worth the vector setup.
+     */
+    private static final int VECTOR_THRESHOLD = 32;
+
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private BulkKernels() {
+    }
+
+    /**
+     * Indicates if ranges are processed with the vector API, that is if the incubator module is present.
+     */
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] * factor</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void multiply(double[] src, int srcOff, double[] dst, int dstOff, int len, double factor) {
+        int i = 0;
+        if (VECTORIZED && len >= VECTOR_THRESHOLD) {
+            i = Vectors.multiply(src, srcOff, dst, dstOff, len, factor);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * factor;
+        }
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] / divisor</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void divide(double[] src, int srcOff, double[] dst, int dstOff, int len, double divisor) {
+        int i = 0;
+        if (VECTORIZED && len >= VECTOR_THRESHOLD) {
+            i = Vectors.divide(src, srcOff, dst, dstOff, len, divisor);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] / divisor;
+        }
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] + offset</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void add(double[] src, int srcOff, double[] dst, int dstOff, int len, double offset) {
+        int i = 0;
+        if (VECTORIZED && len >= VECTOR_THRESHOLD) {
+            i = Vectors.add(src, srcOff, dst, dstOff, len, offset);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] + offset;
+        }
+    }
+
+    /**
+     * Stores <code>src[srcOff + i] * scale + offset</code> to <code>dst[dstOff + i]</code>, rounding the product before the sum.
+     */
+    static void affine(double[] src, int srcOff, double[] dst, int dstOff, int len, double scale, double offset) {
+        int i = 0;
+        if (VECTORIZED && len >= VECTOR_THRESHOLD) {
+            i = Vectors.affine(src, srcOff, dst, dstOff, len, scale, offset);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * scale + offset;
+        }
+    }
+
+    /**
+     * Stores <code>(src[srcOff + i] - offset) / scale</code> to <code>dst[dstOff + i]</code>.
+     */
+    static void affineInverse(double[] src, int srcOff, double[] dst, int dstOff, int len, double scale, double offset) {
+        int i = 0;
+        if (VECTORIZED && len >= VECTOR_THRESHOLD) {
+            i = Vectors.affineInverse(src, srcOff, dst, dstOff, len, scale, offset);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (src[srcOff + i] - offset) / scale;
+        }
+    }
+
+    /**
+     * The vector loops, in their own class so that it is only linked when the incubator module is present. Each returns the number of
+     * values processed, the remaining tail is left to the scalar loop.
+     */
+    private static final class Vectors {
+        private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+        static int multiply(double[] src, int srcOff, double[] dst, int dstOff, int len, double factor) {
+            final int bound = SPECIES.loopBound(len);
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, src, srcOff + i).mul(factor).intoArray(dst, dstOff + i);
+            }
+            return i;
+        }
+
+        static int divide(double[] src, int srcOff, double[] dst, int dstOff, int len, double divisor) {
+            final int bound = SPECIES.loopBound(len);
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, src, srcOff + i).div(divisor).intoArray(dst, dstOff + i);
+            }
+            return i;
+        }
+
+        static int add(double[] src, int srcOff, double[] dst, int dstOff, int len, double offset) {
+            final int bound = SPECIES.loopBound(len);
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, src, srcOff + i).add(offset).intoArray(dst, dstOff + i);
+            }
+            return i;
+        }
+
+        static int affine(double[] src, int srcOff, double[] dst, int dstOff, int len, double scale, double offset) {
+            final int bound = SPECIES.loopBound(len);
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, src, srcOff + i).mul(scale).add(offset).intoArray(dst, dstOff + i);
+            }
+            return i;
+        }
+
+        static int affineInverse(double[] src, int srcOff, double[] dst, int dstOff, int len, double scale, double offset) {
+            final int bound = SPECIES.loopBound(len);
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, src, srcOff + i).sub(offset).div(scale).intoArray(dst, dstOff + i);
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.measure.Dimension;
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.lib.common.function.DoubleFactorSupplier;
+import tech.uom.impl.enums.function.AbstractConverter;
+import tech.uom.impl.enums.function.MultiplyConverter;
+import tech.uom.impl.enums.unit.SimpleDimension;
+
+/**
+ * @author Werner Keil
+ */
+public class DimensionalModelTest {
+
+	@Test
+	public void testCurrent() {
+		assertSame(StandardModel.getInstance(), DimensionalModel.current());
+		System.gc();
+		assertSame(StandardModel.getInstance(), DimensionalModel.current());
+	}
+
+	/**
+	 * Initializes <code>StandardModel</code> before its superclass in a fresh class loader.
+	 */
+	@Test
+	public void testCurrentStandardModelFirst() throws Exception {
+		URL[] urls = { DimensionalModel.class.getProtectionDomain().getCodeSource().getLocation(),
+				Dimension.class.getProtectionDomain().getCodeSource().getLocation(),
+				DoubleFactorSupplier.class.getProtectionDomain().getCodeSource().getLocation() };
+		try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+			Class<?> standard = Class.forName(StandardModel.class.getName(), true, loader);
+			Object instance = standard.getMethod("getInstance").invoke(null);
+			Class<?> model = Class.forName(DimensionalModel.class.getName(), true, loader);
+			assertSame(instance, model.getMethod("current").invoke(null));
+		}
+	}
+
+	@Test
+	public void testSetCurrent() {
+		DimensionalModel model = new StandardModel();
+		try {
+			DimensionalModel.setCurrent(model);
+			assertSame(model, DimensionalModel.current());
+		} finally {
+			DimensionalModel.setCurrent(StandardModel.getInstance());
+		}
+		assertThrows(NullPointerException.class, () -> DimensionalModel.setCurrent(null));
+	}
+
+	@Test
+	public void testScoped() throws InterruptedException {
+		DimensionalModel outer = new StandardModel();
+		DimensionalModel inner = new StandardModel();
+		AtomicReference<DimensionalModel> otherThread = new AtomicReference<>();
+		DimensionalModel.runWith(outer, () -> {
+			assertSame(outer, DimensionalModel.current());
+			assertSame(inner, DimensionalModel.callWith(inner, DimensionalModel::current));
+			assertSame(outer, DimensionalModel.current());
+			Thread thread = new Thread(() -> otherThread.set(DimensionalModel.current()));
+			thread.start();
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertSame(StandardModel.getInstance(), otherThread.get());
+		assertSame(StandardModel.getInstance(), DimensionalModel.current());
+	}
+
+	@Test
+	public void testScopeRestoredOnException() {
+		assertThrows(IllegalStateException.class, () -> DimensionalModel.runWith(new StandardModel(), () -> {
+			throw new IllegalStateException();
+		}));
+		assertSame(StandardModel.getInstance(), DimensionalModel.current());
+	}
+
+	@Test
+	public void testFundamentalDimension() {
+		// SimpleDimension lists itself as its only base dimension
+		DimensionalModel model = new StandardModel();
+		assertSame(SimpleDimension.INSTANCE, model.getFundamentalDimension(SimpleDimension.INSTANCE));
+		assertSame(AbstractConverter.IDENTITY, model.getDimensionalTransform(SimpleDimension.INSTANCE));
+	}
+
+	@Test
+	public void testMemoized() {
+		AtomicInteger calls = new AtomicInteger();
+		Dimension base = new TestDimension(null, calls);
+		Dimension derived = new TestDimension(Collections.singletonMap(base, 2), calls);
+		DimensionalModel model = new DimensionalModel() {
+			@Override
+			public UnitConverter getDimensionalTransform(Dimension dimension) {
+				if (dimension == base) return new MultiplyConverter(3d);
+				return super.getDimensionalTransform(dimension);
+			}
+		};
+		UnitConverter transform = model.getDimensionalTransform(derived);
+		assertEquals(9d, transform.convert(1d), 0d);
+		// stored compiled, the chain of two factors folded into one
+		assertEquals(new MultiplyConverter(9d), transform);
+		Dimension fundamental = model.getFundamentalDimension(derived);
+		int computed = calls.get();
+		assertSame(transform, model.getDimensionalTransform(derived));
+		assertSame(fundamental, model.getFundamentalDimension(derived));
+		assertEquals(computed, calls.get());
+	}
+
+	/**
+	 * A dimension counting how often its base dimensions are requested.
+	 */
+	private static final class TestDimension implements Dimension {
+		private final Map<Dimension, Integer> baseDimensions;
+		private final AtomicInteger calls;
+
+		TestDimension(Map<Dimension, Integer> baseDimensions, AtomicInteger calls) {
+			this.baseDimensions = baseDimensions;
+			this.calls = calls;
+		}
+
+		@Override
+		public Dimension multiply(Dimension multiplicand) {
+			return this;
+		}
+
+		@Override
+		public Dimension divide(Dimension divisor) {
+			return this;
+		}
+
+		@Override
+		public Dimension pow(int n) {
+			return this;
+		}
+
+		@Override
+		public Dimension root(int n) {
+			return this;
+		}
+
+		@Override
+		public Map<? extends Dimension, Integer> getBaseDimensions() {
+			calls.incrementAndGet();
+			return baseDimensions == null ? null : new HashMap<>(baseDimensions);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class DecimalScannerTest {
+
+	private static double parse(String text) {
+		ParsePosition pos = new ParsePosition(0);
+		double value = DecimalScanner.parseDouble(text, pos);
+		assertEquals(text.length(), pos.getIndex(), text);
+		return value;
+	}
+
+	private static void assertParsed(String text) {
+		assertEquals(Double.doubleToLongBits(Double.parseDouble(text)), Double.doubleToLongBits(parse(text)), text);
+	}
+
+	@Test
+	public void testSimpleValues() {
+		for (String text : new String[] { "0", "-0", "+0.0", "1", "12.5", "-12.5", ".5", "5.", "0.1", "0.3", "123456789012345",
+				"9007199254740993", "1e10", "1E-10", "2.5e+3", "1e22", "1e23", "1e37", "9e37", "0.000001", "1e-22", "1e-23",
+				"4.9e-324", "2.4e-324", "1.7976931348623157e308", "1.8e308", "1e400", "1e-400", "00012.5000",
+				"12345678901234567890", "1234567890.1234567890123456789", "2.2250738585072011e-308" }) {
+			assertParsed(text);
+		}
+	}
+
+	@Test
+	public void testMantissaBeyondLong() {
+		for (String text : new String[] { "9999999999999999999", "9223372036854775808", "-9223372036854775809",
+				"999999999999999999", "99999999999999999999.5e-3" }) {
+			assertParsed(text);
+		}
+		assertEquals(1e19, parse("9999999999999999999"));
+	}
+
+	@Test
+	public void testSpecialValues() {
+		assertEquals(Double.NaN, parse("NaN"));
+		assertEquals(Double.POSITIVE_INFINITY, parse("Infinity"));
+		assertEquals(Double.NEGATIVE_INFINITY, parse("-Infinity"));
+	}
+
+	@Test
+	public void testRandomValues() {
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			double d = Double.longBitsToDouble(random.nextLong());
+			if (!Double.isNaN(d)) {
+				assertParsed(Double.toString(d));
+			}
+			assertParsed(Long.toString(random.nextLong() % 100000000000L) + "." + Integer.toString(random.nextInt(1000000))
+					+ "e" + (random.nextInt(60) - 30));
+			assertParsed(new BigDecimal(random.nextInt(1000000)).movePointLeft(random.nextInt(8)).toPlainString());
+		}
+	}
+
+	@Test
+	public void testStopsAfterNumber() {
+		ParsePosition pos = new ParsePosition(2);
+		assertEquals(5d, DecimalScanner.parseDouble("x 5km", pos));
+		assertEquals(3, pos.getIndex());
+		pos = new ParsePosition(0);
+		assertEquals(2d, DecimalScanner.parseDouble("2em", pos));
+		assertEquals(1, pos.getIndex());
+		pos = new ParsePosition(0);
+		assertEquals(1.5d, DecimalScanner.parseDouble("1.5.3", pos));
+		assertEquals(3, pos.getIndex());
+	}
+
+	@Test
+	public void testInvalid() {
+		for (String text : new String[] { "", "-", ".", "m", "-.e1", "+ 1" }) {
+			ParsePosition pos = new ParsePosition(0);
+			assertEquals(0d, DecimalScanner.parseDouble(text, pos));
+			assertEquals(0, pos.getIndex());
+			assertEquals(0, pos.getErrorIndex());
+		}
+	}
+
+	@Test
+	public void testParseDecimal() {
+		ParsePosition pos = new ParsePosition(0);
+		assertEquals(new BigDecimal("0.10000000000000000000001"), DecimalScanner.parseDecimal("0.10000000000000000000001 m", pos));
+		assertEquals(25, pos.getIndex());
+		pos = new ParsePosition(0);
+		assertEquals(new BigDecimal("-1.5E+3"), DecimalScanner.parseDecimal("-1.5e3", pos));
+		pos = new ParsePosition(0);
+		assertNull(DecimalScanner.parseDecimal("NaN", pos));
+		assertEquals(0, pos.getErrorIndex());
+		pos = new ParsePosition(0);
+		assertNull(DecimalScanner.parseDecimal("1e9999999999", pos));
+		assertEquals(0, pos.getIndex());
+		assertEquals(1, pos.getErrorIndex());
+		pos = new ParsePosition(0);
+		assertEquals(new BigDecimal("1E+2147483647"), DecimalScanner.parseDecimal("1e2147483647", pos));
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class DoubleToDecimalTest {
+
+	@Test
+	public void testLayout() {
+		assertEquals("0.0", DoubleToDecimal.toString(0d));
+		assertEquals("-0.0", DoubleToDecimal.toString(-0d));
+		assertEquals("1.0", DoubleToDecimal.toString(1d));
+		assertEquals("12.5", DoubleToDecimal.toString(12.5d));
+		assertEquals("-273.15", DoubleToDecimal.toString(-273.15d));
+		assertEquals("0.001", DoubleToDecimal.toString(0.001d));
+		assertEquals("9.99E-4", DoubleToDecimal.toString(0.000999d));
+		assertEquals("9999999.0", DoubleToDecimal.toString(9999999d));
+		assertEquals("1.0E7", DoubleToDecimal.toString(1e7d));
+		assertEquals("1.2345678E7", DoubleToDecimal.toString(12345678d));
+		assertEquals("1.0E23", DoubleToDecimal.toString(1e23d));
+		assertEquals("2.0E23", DoubleToDecimal.toString(2e23d));
+		assertEquals("0.30000000000000004", DoubleToDecimal.toString(0.1d + 0.2d));
+		assertEquals("1.7976931348623157E308", DoubleToDecimal.toString(Double.MAX_VALUE));
+		assertEquals("2.2250738585072014E-308", DoubleToDecimal.toString(Double.MIN_NORMAL));
+		assertEquals("4.9E-324", DoubleToDecimal.toString(Double.MIN_VALUE));
+		assertEquals("NaN", DoubleToDecimal.toString(Double.NaN));
+		assertEquals("Infinity", DoubleToDecimal.toString(Double.POSITIVE_INFINITY));
+		assertEquals("-Infinity", DoubleToDecimal.toString(Double.NEGATIVE_INFINITY));
+	}
+
+	@Test
+	public void testShortestRoundTrip() {
+		Random random = new Random(42);
+		for (int i = 0; i < 200000; i++) {
+			double d = Double.longBitsToDouble(random.nextLong());
+			if (Double.isNaN(d)) {
+				continue;
+			}
+			String s = DoubleToDecimal.toString(d);
+			assertEquals(d, Double.parseDouble(s), s);
+			// Never longer than the JDK's, which is the shortest only since Java 19
+			assertTrue(s.length() <= Double.toString(d).length(), s);
+		}
+	}
+
+	@Test
+	public void testToChars() {
+		char[] chars = new char[DoubleToDecimal.MAX_CHARS + 2];
+		int end = DoubleToDecimal.toChars(-2.2250738585072014E-308, chars, 2);
+		assertEquals(2 + DoubleToDecimal.MAX_CHARS, end);
+		assertEquals("-2.2250738585072014E-308", new String(chars, 2, end - 2));
+	}
+
+	@Test
+	public void testAppendTo() throws IOException {
+		assertEquals("x=12.5", DoubleToDecimal.appendTo(12.5d, new StringBuilder("x=")).toString());
+		assertEquals("1.0E-5", DoubleToDecimal.appendTo(1e-5d, new StringWriter()).toString());
+	}
+}
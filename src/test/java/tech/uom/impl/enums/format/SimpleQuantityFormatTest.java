@@ -0,0 +1,205 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.uom.impl.enums.unit.DimensionlessUnit.ONE;
+import static tech.uom.impl.enums.unit.DistanceUnit.KILOMETRE;
+import static tech.uom.impl.enums.unit.DistanceUnit.METRE;
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+
+import javax.measure.Quantity;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.quantity.Quantities;
+import tech.uom.impl.enums.quantity.TimeQuantity;
+
+/**
+ * @author Werner Keil
+ */
+public class SimpleQuantityFormatTest {
+
+	@Test
+	public void testParse() {
+		Quantity<?> q = SimpleQuantityFormat.getInstance().parse("12.5 m");
+		assertEquals(12.5d, q.getValue().doubleValue());
+		assertEquals(METRE, q.getUnit());
+	}
+
+	@Test
+	public void testParseBeyondLong() {
+		assertEquals(1e19, SimpleQuantityFormat.getInstance().parse("9999999999999999999 m").getValue().doubleValue());
+		assertEquals(0x1p63, SimpleQuantityFormat.getInstance().parse("9223372036854775808 m").getValue().doubleValue());
+	}
+
+	@Test
+	public void testParseAtPosition() {
+		ParsePosition pos = new ParsePosition(4);
+		Quantity<?> q = SimpleQuantityFormat.getInstance().parse("len:  -3e2 m", pos);
+		assertEquals(-300d, q.getValue().doubleValue());
+		assertEquals(METRE, q.getUnit());
+		assertEquals(12, pos.getIndex());
+	}
+
+	@Test
+	public void testParseWithoutSpace() {
+		Quantity<?> q = SimpleQuantityFormat.getInstance().parse("5km");
+		assertEquals(5d, q.getValue().doubleValue());
+		assertEquals(KILOMETRE, q.getUnit());
+	}
+
+	@Test
+	public void testParseTrailingGarbage() {
+		assertThrows(MeasurementParseException.class, () -> SimpleQuantityFormat.getInstance().parse("5 km!"));
+	}
+
+	@Test
+	public void testParseAfterFailure() {
+		// the throwing parse methods reuse one result per thread
+		MeasurementParseException e = assertThrows(MeasurementParseException.class, () -> SimpleQuantityFormat.getInstance().parse("x m"));
+		assertEquals(0, e.getPosition());
+		assertEquals(5d, SimpleQuantityFormat.getInstance().parse("5 km").getValue().doubleValue());
+		e = assertThrows(MeasurementParseException.class, () -> SimpleQuantityFormat.getInstance().parse("5 km!"));
+		assertEquals(4, e.getPosition());
+	}
+
+	@Test
+	public void testParseDecimal() {
+		String digits = "3.14159265358979323846264338327950288";
+		Quantity<?> q = SimpleQuantityFormat.getDecimalInstance().parse(digits + " m");
+		assertEquals(new BigDecimal(digits).doubleValue(), q.getValue().doubleValue());
+		assertEquals(METRE, q.getUnit());
+	}
+
+	@Test
+	public void testFormat() {
+		assertEquals("12.5 m", SimpleQuantityFormat.getInstance().format(Quantities.getQuantity(12.5d, METRE)));
+		assertEquals("1.0E-4 m", SimpleQuantityFormat.getInstance().format(Quantities.getQuantity(0.0001d, METRE)));
+		assertEquals("0.3", SimpleQuantityFormat.getInstance().format(Quantities.getQuantity(0.3d, ONE)));
+	}
+
+	@Test
+	public void testFormatParseMinutes() {
+		String text = SimpleQuantityFormat.getInstance().format(new TimeQuantity(5d, MINUTE));
+		assertEquals("5.0 min", text);
+		Quantity<?> q = SimpleQuantityFormat.getInstance().parse(text);
+		assertEquals(5d, q.getValue().doubleValue());
+		assertEquals(MINUTE, q.getUnit());
+	}
+
+	@Test
+	public void testParseInvalidNumber() {
+		ParsePosition pos = new ParsePosition(0);
+		assertThrows(MeasurementParseException.class, () -> SimpleQuantityFormat.getInstance().parse("m 12", pos));
+		assertEquals(0, pos.getIndex());
+	}
+
+	@Test
+	public void testTryParse() {
+		ParseResult result = new ParseResult();
+		Quantity<?> q = SimpleQuantityFormat.getInstance().tryParse("12.5 km", result);
+		assertEquals(12.5d, q.getValue().doubleValue());
+		assertEquals(KILOMETRE, q.getUnit());
+		assertTrue(result.isSuccess());
+		assertEquals(-1, result.getErrorIndex());
+	}
+
+	@Test
+	public void testTryParseFailures() {
+		ParseResult result = new ParseResult();
+		assertNull(SimpleQuantityFormat.getInstance().tryParse("  m 12", result));
+		assertEquals(ParseResult.Reason.NUMBER_EXPECTED, result.getReason());
+		assertEquals(2, result.getErrorIndex());
+
+		assertNull(SimpleQuantityFormat.getInstance().tryParse("12 xyz", result));
+		assertEquals(ParseResult.Reason.UNKNOWN_UNIT, result.getReason());
+		assertEquals(3, result.getErrorIndex());
+
+		assertNull(SimpleQuantityFormat.getInstance().tryParse("5 km!", result));
+		assertEquals(ParseResult.Reason.UNEXPECTED_CHARACTER, result.getReason());
+		assertEquals(4, result.getErrorIndex());
+
+		assertEquals(METRE, SimpleQuantityFormat.getInstance().tryParse("1 m", result).getUnit());
+		assertTrue(result.isSuccess());
+	}
+
+	@Test
+	public void testTryParseExponentOutOfRange() {
+		ParseResult result = new ParseResult();
+		assertNull(SimpleQuantityFormat.getDecimalInstance().tryParse("1e9999999999 m", result));
+		assertEquals(ParseResult.Reason.NUMBER_OUT_OF_RANGE, result.getReason());
+		assertEquals(1, result.getErrorIndex());
+		assertNull(SimpleQuantityFormat.getDecimalInstance().tryParse("1.5e-2147483648 m", result));
+		assertEquals(ParseResult.Reason.NUMBER_OUT_OF_RANGE, result.getReason());
+		assertEquals(3, result.getErrorIndex());
+		assertThrows(MeasurementParseException.class, () -> SimpleQuantityFormat.getDecimalInstance().parse("1e9999999999 m"));
+		assertEquals(Double.POSITIVE_INFINITY,
+				SimpleQuantityFormat.getInstance().tryParse("1e9999999999 m", result).getValue().doubleValue());
+	}
+
+	@Test
+	public void testTryParseAtPosition() {
+		ParseResult result = new ParseResult();
+		ParsePosition pos = new ParsePosition(4);
+		assertNull(SimpleQuantityFormat.getInstance().tryParse("len: 3 xyz", pos, result));
+		assertEquals(4, pos.getIndex());
+		assertEquals(7, pos.getErrorIndex());
+		assertFalse(result.isSuccess());
+	}
+
+	@Test
+	public void testParseObject() {
+		ParsePosition pos = new ParsePosition(0);
+		assertNull(SimpleQuantityFormat.getInstance().parseObject("abc", pos));
+		assertEquals(0, pos.getIndex());
+		assertEquals(0, pos.getErrorIndex());
+		pos = new ParsePosition(0);
+		assertEquals(METRE, ((Quantity<?>) SimpleQuantityFormat.getInstance().parseObject("2 m", pos)).getUnit());
+		assertEquals(3, pos.getIndex());
+	}
+
+	@Test
+	public void testExceptionWithoutStackTrace() {
+		MeasurementParseException e = assertThrows(MeasurementParseException.class,
+				() -> SimpleQuantityFormat.getInstance().parse("12 xyz"));
+		assertEquals(3, e.getPosition());
+		assertEquals("12 xyz", e.getParsedString());
+		assertEquals(0, e.getStackTrace().length);
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.unit.DimensionlessUnit;
+import tech.uom.impl.enums.unit.DistanceUnit;
+import tech.uom.impl.enums.unit.TemperatureUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
+
+/**
+ * @author Werner Keil
+ */
+public class SimpleUnitFormatTest {
+
+	private final UnitFormat format = SimpleUnitFormat.getInstance();
+
+	@Test
+	public void testParseSymbols() {
+		assertEquals(DistanceUnit.METRE, format.parse("m"));
+		assertEquals(DistanceUnit.KILOMETRE, format.parse("km"));
+		assertEquals(TimeUnit.SECOND, format.parse("s"));
+		assertEquals(TimeUnit.MILLISECOND, format.parse("ms"));
+		assertEquals(TimeUnit.HOUR, format.parse("h"));
+		assertEquals(TimeUnit.NANOSECOND, format.parse("ns"));
+		assertEquals(TimeUnit.MICROSECOND, format.parse("\u00b5s"));
+		assertEquals(TimeUnit.DAY, format.parse("d"));
+		assertEquals(TemperatureUnit.KELVIN, format.parse("K"));
+		assertEquals(TemperatureUnit.CELSIUS, format.parse("°C"));
+		assertEquals(DimensionlessUnit.ONE, format.parse(""));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (Unit<?>[] units : new Unit<?>[][] { DistanceUnit.values(), TimeUnit.values(), TemperatureUnit.values(),
+				DimensionlessUnit.values() }) {
+			for (Unit<?> unit : units) {
+				assertEquals(unit, format.parse(format.format(unit)), unit.toString());
+			}
+		}
+		assertEquals("min", format.format(TimeUnit.MINUTE));
+	}
+
+	@Test
+	public void testParseAliases() {
+		assertEquals(TimeUnit.MINUTE, format.parse("min"));
+		assertEquals(TimeUnit.MICROSECOND, format.parse("us"));
+		assertEquals(TimeUnit.MICROSECOND, format.parse("\u03bcs"));
+		assertEquals(TemperatureUnit.CELSIUS, format.parse("degC"));
+		assertEquals(TemperatureUnit.CELSIUS, format.parse("℃"));
+		assertEquals(TemperatureUnit.FAHRENHEIT, format.parse("degF"));
+		assertEquals(TemperatureUnit.FAHRENHEIT, format.parse("℉"));
+		assertEquals(TemperatureUnit.RANKINE, format.parse("degR"));
+	}
+
+	@Test
+	public void testParseAtPosition() {
+		StringBuilder sb = new StringBuilder("12.5 km, 3 ms");
+		ParsePosition pos = new ParsePosition(5);
+		assertEquals(DistanceUnit.KILOMETRE, format.parse(sb, pos));
+		assertEquals(7, pos.getIndex());
+		pos.setIndex(11);
+		assertEquals(TimeUnit.MILLISECOND, format.parse(sb, pos));
+		assertEquals(13, pos.getIndex());
+	}
+
+	@Test
+	public void testParseUnknown() {
+		ParsePosition pos = new ParsePosition(0);
+		assertThrows(MeasurementParseException.class, () -> format.parse("xyz", pos));
+		assertEquals(0, pos.getIndex());
+		assertEquals(0, pos.getErrorIndex());
+		assertThrows(MeasurementParseException.class, () -> format.parse("kmx"));
+	}
+
+	@Test
+	public void testFormat() {
+		assertEquals("km", format.format(DistanceUnit.KILOMETRE));
+		assertEquals("°F", format.format(TemperatureUnit.FAHRENHEIT));
+	}
+
+	@Test
+	public void testLabel() {
+		SimpleUnitFormat labeled = new SimpleUnitFormat();
+		labeled.label(TemperatureUnit.CELSIUS, "Cel");
+		assertEquals("Cel", labeled.format(TemperatureUnit.CELSIUS));
+		assertEquals(TemperatureUnit.CELSIUS, labeled.parse("Cel"));
+		assertEquals(TemperatureUnit.CELSIUS, labeled.parse("°C"));
+		assertEquals("°C", format.format(TemperatureUnit.CELSIUS));
+		assertThrows(MeasurementParseException.class, () -> format.parse("Cel"));
+	}
+
+	@Test
+	public void testAlias() {
+		SimpleUnitFormat aliased = new SimpleUnitFormat();
+		aliased.alias(DistanceUnit.KILOMETRE, "klick");
+		assertEquals(DistanceUnit.KILOMETRE, aliased.parse("klick"));
+		assertEquals("km", aliased.format(DistanceUnit.KILOMETRE));
+	}
+
+	@Test
+	public void testInvalidLabel() {
+		SimpleUnitFormat labeled = new SimpleUnitFormat();
+		assertThrows(IllegalArgumentException.class, () -> labeled.label(DistanceUnit.METRE, ""));
+		assertThrows(IllegalArgumentException.class, () -> labeled.alias(DistanceUnit.METRE, "a m"));
+		assertThrows(NullPointerException.class, () -> labeled.label(null, "m"));
+	}
+
+	@Test
+	public void testReload() throws IOException {
+		SimpleUnitFormat reloaded = new SimpleUnitFormat();
+		reloaded.label(DistanceUnit.METRE, "metre");
+		reloaded.reload(new ByteArrayInputStream("degC = Cel, celsius\nh = hr\n".getBytes(StandardCharsets.UTF_8)));
+		assertEquals("Cel", reloaded.format(TemperatureUnit.CELSIUS));
+		assertEquals(TemperatureUnit.CELSIUS, reloaded.parse("celsius"));
+		assertEquals("hr", reloaded.format(TimeUnit.HOUR));
+		assertEquals("m", reloaded.format(DistanceUnit.METRE));
+		assertThrows(MeasurementParseException.class, () -> reloaded.parse("metre"));
+	}
+
+	@Test
+	public void testReloadUnknown() {
+		SimpleUnitFormat reloaded = new SimpleUnitFormat();
+		reloaded.label(DistanceUnit.METRE, "metre");
+		Properties labels = new Properties();
+		labels.setProperty("h", "hr");
+		labels.setProperty("xyz", "abc");
+		assertThrows(IllegalArgumentException.class, () -> reloaded.reload(labels));
+		assertEquals("metre", reloaded.format(DistanceUnit.METRE));
+		assertEquals("h", reloaded.format(TimeUnit.HOUR));
+	}
+
+	@Test
+	public void testConcurrentLabels() throws Exception {
+		SimpleUnitFormat shared = new SimpleUnitFormat();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				final int id = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 200; i++) {
+						shared.alias(DistanceUnit.METRE, "m" + id + "_" + i);
+						assertEquals("km", shared.format(DistanceUnit.KILOMETRE));
+						assertEquals(DistanceUnit.METRE, shared.parse("m" + id + "_" + i));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		for (int t = 0; t < 4; t++) {
+			for (int i = 0; i < 200; i++) {
+				assertEquals(DistanceUnit.METRE, shared.parse("m" + t + "_" + i));
+			}
+		}
+	}
+
+	@Test
+	public void testTryParse() {
+		SimpleUnitFormat unitFormat = SimpleUnitFormat.getInstance();
+		ParseResult result = new ParseResult();
+		assertEquals(DistanceUnit.KILOMETRE, unitFormat.tryParse("km", result));
+		assertTrue(result.isSuccess());
+		assertNull(unitFormat.tryParse("xyz", result));
+		assertEquals(ParseResult.Reason.UNKNOWN_UNIT, result.getReason());
+		assertEquals(0, result.getErrorIndex());
+		assertNull(unitFormat.tryParse("kmx", result));
+		assertEquals(ParseResult.Reason.UNEXPECTED_CHARACTER, result.getReason());
+		assertEquals(2, result.getErrorIndex());
+		assertEquals("Unexpected character at index 2", result.toString());
+		assertEquals(2, result.toException("kmx").getPosition());
+	}
+
+	@Test
+	public void testParseObject() {
+		assertNull(SimpleUnitFormat.getInstance().parseObject("xyz"));
+	}
+}
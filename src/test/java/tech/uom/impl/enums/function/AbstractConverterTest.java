@@ -0,0 +1,250 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.unit.TemperatureUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
+
+/**
+ * @author Werner Keil
+ */
+public class AbstractConverterTest {
+
+	private static final AbstractConverter TWICE = new Times(2d);
+	private static final AbstractConverter TWICE_PLUS_ONE = new Plus(1d).concatenate(TWICE);
+
+	@Test
+	public void testConvertArray() {
+		double[] src = { 1d, 2d, 3d, 4d };
+		double[] dst = new double[6];
+		TWICE_PLUS_ONE.convert(src, 1, dst, 2, 3);
+		assertArrayEquals(new double[] { 0d, 0d, 5d, 7d, 9d, 0d }, dst);
+		assertArrayEquals(new double[] { 1d, 2d, 3d, 4d }, src);
+	}
+
+	@Test
+	public void testConvertInPlace() {
+		double[] values = { 1d, 2d, 3d, 4d };
+		TWICE.convert(values, 1, 2);
+		assertArrayEquals(new double[] { 1d, 4d, 6d, 4d }, values);
+		TWICE_PLUS_ONE.convert(values);
+		assertArrayEquals(new double[] { 3d, 9d, 13d, 9d }, values);
+	}
+
+	@Test
+	public void testConvertOverlapping() {
+		double[] values = { 1d, 2d, 3d, 4d, 5d };
+		TWICE.convert(values, 0, values, 1, 4);
+		assertArrayEquals(new double[] { 1d, 2d, 4d, 6d, 8d }, values);
+		values = new double[] { 1d, 2d, 3d, 4d, 5d };
+		TWICE.convert(values, 1, values, 0, 4);
+		assertArrayEquals(new double[] { 4d, 6d, 8d, 10d, 5d }, values);
+	}
+
+	@Test
+	public void testConvertIdentity() {
+		double[] values = { 1d, 2d, 3d };
+		double[] dst = new double[3];
+		AbstractConverter.IDENTITY.convert(values, 0, dst, 0, 3);
+		assertArrayEquals(values, dst);
+	}
+
+	@Test
+	public void testConvertOutOfBounds() {
+		double[] values = new double[4];
+		assertThrows(IndexOutOfBoundsException.class, () -> TWICE.convert(values, 2, values, 0, 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> TWICE.convert(values, 0, new double[2], 0, 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> TWICE.convert(values, -1, 2));
+	}
+
+	@Test
+	public void testConvertBuffer() {
+		DoubleBuffer src = DoubleBuffer.wrap(new double[] { 1d, 2d, 3d });
+		DoubleBuffer dst = DoubleBuffer.allocate(4);
+		dst.put(0d);
+		TWICE_PLUS_ONE.convert(src, dst);
+		assertEquals(3, src.position());
+		assertEquals(4, dst.position());
+		assertArrayEquals(new double[] { 0d, 3d, 5d, 7d }, dst.array());
+		assertThrows(BufferOverflowException.class, () -> TWICE.convert(DoubleBuffer.allocate(2), DoubleBuffer.allocate(1)));
+	}
+
+	@Test
+	public void testConvertDirectBuffer() {
+		final int size = 1500; // more than one chunk
+		DoubleBuffer values = ByteBuffer.allocateDirect(size * Double.BYTES).asDoubleBuffer();
+		DoubleBuffer dst = ByteBuffer.allocateDirect(size * Double.BYTES).asDoubleBuffer();
+		for (int i = 0; i < size; i++) {
+			values.put(i, i);
+		}
+		values.position(1);
+		TWICE.convert(values);
+		assertEquals(1, values.position());
+		assertEquals(0d, values.get(0));
+		assertEquals(2d * (size - 1), values.get(size - 1));
+		TWICE.convert(values, dst);
+		assertEquals(size, values.position());
+		assertEquals(size - 1, dst.position());
+		assertEquals(4d, dst.get(0));
+		assertEquals(4d * (size - 1), dst.get(size - 2));
+	}
+
+	@Test
+	public void testConvertDouble() {
+		assertEquals(Double.valueOf(3d), new MultiplyConverter(2d).convert(Double.valueOf(1.5d)));
+		assertEquals(Double.valueOf(3d), new MultiplyConverter(2d).convert(Float.valueOf(1.5f)));
+		assertEquals(Double.valueOf(6d), new MultiplyConverter(2d).convert(new AtomicInteger(3)));
+	}
+
+	@Test
+	public void testConvertIntegral() {
+		long large = (1L << 53) + 1;
+		assertEquals(Long.valueOf(2 * large), new MultiplyConverter(2d).convert(Long.valueOf(large)));
+		assertEquals(Long.valueOf(7L), AffineConverter.of(2d, 1d).convert(Integer.valueOf(3)));
+		assertEquals(Long.valueOf(-3L), new AddConverter(-5d).convert(Short.valueOf((short) 2)));
+		assertEquals(Double.valueOf(0.5d), new MultiplyConverter(0.5d).convert(Integer.valueOf(1)));
+		assertEquals(Double.valueOf(Long.MAX_VALUE * 2d), new MultiplyConverter(2d).convert(Long.valueOf(Long.MAX_VALUE)));
+		assertEquals(Double.valueOf(Math.pow(2d, 3d)), new ExpConverter(2d).convert(Integer.valueOf(3)));
+	}
+
+	@Test
+	public void testConvertDecimal() {
+		BigDecimal celsius = new BigDecimal("36.6");
+		assertEquals(new BigDecimal("97.88"), AffineConverter.of(1.8d, 32d).convert(celsius));
+		BigDecimal fahrenheit = (BigDecimal) TemperatureUnit.CELSIUS.getConverterTo(TemperatureUnit.FAHRENHEIT).convert(celsius);
+		assertEquals(97.88d, fahrenheit.doubleValue(), 1e-9);
+		assertEquals(new BigDecimal("0.1"), new MultiplyConverter(0.1d).convert(BigDecimal.ONE));
+		assertEquals(new BigDecimal("1.3"), new AddConverter(0.3d).convert(BigDecimal.ONE));
+		assertEquals(new BigDecimal("0.33"), new RationalConverter(1, 3).convert(BigDecimal.ONE, new MathContext(2)));
+		assertEquals(new BigDecimal("3600000000000000000000"),
+				TimeUnit.HOUR.getConverterTo(TimeUnit.MILLISECOND).convert(BigInteger.valueOf(1_000_000_000_000_000L)));
+		assertEquals(0, new BigDecimal("1000").compareTo(new ExpConverter(10d).convert(new BigDecimal(3), MathContext.DECIMAL64)));
+		assertThrows(ArithmeticException.class, () -> new LogConverter(10d).convert(BigDecimal.ONE.negate()));
+	}
+
+	@Test
+	public void testConvertChain() {
+		AbstractConverter chain = new MultiplyConverter(2d).concatenate(new ExpConverter(10d)).concatenate(new AddConverter(1d));
+		assertEquals(Double.valueOf(200d), chain.convert(Integer.valueOf(1)));
+		assertEquals(Double.valueOf(200d), chain.convert(Double.valueOf(1d)));
+		assertEquals(Double.valueOf(200d), ConverterCompiler.compile(chain).convert(Integer.valueOf(1)));
+		assertEquals(Double.valueOf(4d), TWICE.concatenate(new AddConverter(1d)).convert(Integer.valueOf(1)));
+		assertEquals(Long.valueOf(9L), ConverterCompiler.compile(new MultiplyConverter(3d)).convert(Long.valueOf(3L)));
+	}
+
+	@Test
+	public void testIdentity() {
+		BigDecimal value = new BigDecimal("1.234567890123456789012345678901234567890");
+		assertSame(value, AbstractConverter.IDENTITY.convert(value));
+		Integer i = Integer.valueOf(42);
+		assertSame(i, AbstractConverter.IDENTITY.convert(i));
+	}
+
+	private static final class Times extends AbstractConverter {
+		private final double factor;
+
+		Times(double factor) {
+			this.factor = factor;
+		}
+
+		@Override
+		public double convert(double value) {
+			return value * factor;
+		}
+
+		@Override
+		public AbstractConverter inverse() {
+			return new Times(1d / factor);
+		}
+
+		@Override
+		public boolean isLinear() {
+			return true;
+		}
+
+		@Override
+		public boolean equals(Object cvtr) {
+			return cvtr instanceof Times && ((Times) cvtr).factor == factor;
+		}
+
+		@Override
+		public int hashCode() {
+			return Double.hashCode(factor);
+		}
+	}
+
+	private static final class Plus extends AbstractConverter {
+		private final double offset;
+
+		Plus(double offset) {
+			this.offset = offset;
+		}
+
+		@Override
+		public double convert(double value) {
+			return value + offset;
+		}
+
+		@Override
+		public AbstractConverter inverse() {
+			return new Plus(-offset);
+		}
+
+		@Override
+		public boolean isLinear() {
+			return false;
+		}
+
+		@Override
+		public boolean equals(Object cvtr) {
+			return cvtr instanceof Plus && ((Plus) cvtr).offset == offset;
+		}
+
+		@Override
+		public int hashCode() {
+			return Double.hashCode(offset);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class AffineConverterTest {
+
+	@Test
+	public void testOf() {
+		assertSame(AbstractConverter.IDENTITY, AffineConverter.of(1d, 0d));
+		assertEquals(new MultiplyConverter(2d), AffineConverter.of(2d, 0d));
+		assertEquals(new AddConverter(3d), AffineConverter.of(1d, 3d));
+		assertEquals(new AffineConverter(2d, 3d), AffineConverter.of(2d, 3d));
+	}
+
+	@Test
+	public void testConvert() {
+		AffineConverter cvtr = new AffineConverter(1.8d, 32d);
+		assertEquals(212d, cvtr.convert(100d), 1e-12);
+		assertEquals(100d, cvtr.inverse().convert(212d), 1e-12);
+	}
+
+	@Test
+	public void testInverseCached() {
+		AffineConverter cvtr = new AffineConverter(1.8d, 32d);
+		assertSame(cvtr.inverse(), cvtr.inverse());
+		assertSame(cvtr, cvtr.inverse().inverse());
+	}
+
+	@Test
+	public void testConcatenateFolds() {
+		AbstractConverter cvtr = new AddConverter(32d).concatenate(new MultiplyConverter(1.8d));
+		assertEquals(new AffineConverter(1.8d, 32d), cvtr);
+		cvtr = new MultiplyConverter(2d).concatenate(new AddConverter(1d));
+		assertEquals(new AffineConverter(2d, 2d), cvtr);
+	}
+
+	@Test
+	public void testDeepChainFolds() {
+		AbstractConverter cvtr = AbstractConverter.IDENTITY;
+		for (int i = 0; i < 100; i++) {
+			cvtr = cvtr.concatenate(new MultiplyConverter(i % 2 == 0 ? 4d : 0.5d));
+		}
+		assertEquals(new MultiplyConverter(Math.pow(2d, 50)), cvtr);
+		assertEquals(1, cvtr.getConversionSteps().size());
+	}
+
+	@Test
+	public void testFoldsAcrossOpaqueSteps() {
+		AbstractConverter opaque = new Opaque();
+		AbstractConverter cvtr = new MultiplyConverter(2d).concatenate(opaque).concatenate(new MultiplyConverter(3d))
+				.concatenate(new AddConverter(1d));
+		assertEquals(3, cvtr.getConversionSteps().size());
+		assertEquals(2d * Math.sqrt(3d * 5d + 3d), cvtr.convert(5d), 1e-12);
+		cvtr = cvtr.concatenate(new MultiplyConverter(0.5d));
+		assertEquals(3, cvtr.getConversionSteps().size());
+		assertEquals(new AffineConverter(1.5d, 3d), cvtr.getConversionSteps().get(2));
+	}
+
+	@Test
+	public void testNormalize() {
+		AbstractConverter cvtr = AbstractConverter.normalize(new Opaque().inverse());
+		assertTrue(cvtr instanceof Opaque);
+		assertSame(AbstractConverter.IDENTITY, AbstractConverter.normalize(AbstractConverter.IDENTITY));
+	}
+
+	@Test
+	public void testMultiplyAndAddInverseCached() {
+		MultiplyConverter multiply = new MultiplyConverter(3d);
+		assertSame(multiply, multiply.inverse().inverse());
+		AddConverter add = new AddConverter(273.15d);
+		assertSame(add, add.inverse().inverse());
+	}
+
+	@Test
+	public void testMultiplyInverseDivides() {
+		MultiplyConverter cvtr = new MultiplyConverter(49d);
+		MultiplyConverter inverse = cvtr.inverse();
+		assertEquals(1d, inverse.convert(cvtr.convert(1d)));
+		for (int i = 1; i < 1000; i++) {
+			assertEquals(i / 49d, inverse.convert((double) i));
+			assertEquals((double) i, inverse.convert(cvtr.convert((double) i)));
+		}
+		assertEquals(1d / 49d, inverse.getFactor());
+		assertEquals(new MultiplyConverter(49d), inverse.inverse());
+		assertEquals(new BigDecimal("0.5"), new MultiplyConverter(4d).inverse().convert(new BigDecimal(2), MathContext.DECIMAL128));
+		double[] values = { 1d, 2d, 3d };
+		inverse.convert(values, 0, values, 0, values.length);
+		assertEquals(3d / 49d, values[2]);
+	}
+
+	@Test
+	public void testAffineInverseDivides() {
+		AffineConverter cvtr = new AffineConverter(1.8d, 32d);
+		AffineConverter inverse = cvtr.inverse();
+		assertEquals(100d, inverse.convert(212d));
+		assertEquals(-40d, inverse.convert(-40d));
+		assertEquals(1d / 1.8d, inverse.getScale());
+		assertEquals(-32d / 1.8d, inverse.getOffset());
+		assertEquals(cvtr, inverse.inverse());
+		assertEquals(0, new BigDecimal(100).compareTo(inverse.convert(new BigDecimal(212), MathContext.DECIMAL128)));
+		double[] values = { 32d, 212d };
+		inverse.convert(values, 0, values, 0, values.length);
+		assertEquals(0d, values[0]);
+		assertEquals(100d, values[1]);
+	}
+
+	@Test
+	public void testGetType() {
+		assertEquals(ConversionType.ADD, new AddConverter(2d).getType());
+		assertEquals(ConversionType.MULTIPLY, new MultiplyConverter(2d).getType());
+	}
+
+	/**
+	 * A converter that is not affine, so it cannot be folded.
+	 */
+	private static final class Opaque extends AbstractConverter {
+		@Override
+		public double convert(double value) {
+			return Math.sqrt(value);
+		}
+
+		@Override
+		public AbstractConverter inverse() {
+			return this;
+		}
+
+		@Override
+		public boolean isLinear() {
+			return false;
+		}
+
+		@Override
+		public boolean equals(Object cvtr) {
+			return cvtr instanceof Opaque;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the bulk kernels, vectorized or not, against a conversion per value.
+ *
+ * @author Werner Keil
+ */
+public class BulkKernelsTest {
+
+	private static final int[] LENGTHS = { 0, 1, 7, 31, 32, 33, 100, 1027 };
+
+	private static double[] random(int len) {
+		Random random = new Random(len);
+		double[] values = new double[len];
+		for (int i = 0; i < len; i++) {
+			values[i] = (random.nextDouble() - 0.5d) * 1e4;
+		}
+		return values;
+	}
+
+	private static void assertBulk(AbstractConverter cvtr) {
+		for (int len : LENGTHS) {
+			double[] src = random(len + 3);
+			double[] dst = new double[len + 5];
+			cvtr.convert(src, 3, dst, 5, len);
+			for (int i = 0; i < len; i++) {
+				assertEquals(cvtr.convert(src[3 + i]), dst[5 + i], 0d, "length " + len + " at " + i);
+			}
+			// in place, shifted towards the start
+			double[] values = src.clone();
+			cvtr.convert(values, 3, values, 1, len);
+			for (int i = 0; i < len; i++) {
+				assertEquals(cvtr.convert(src[3 + i]), values[1 + i], 0d, "length " + len + " at " + i);
+			}
+		}
+	}
+
+	/**
+	 * The build sets <code>bulkKernels.vectorized</code> when it runs this test against the multi-release JAR with the incubator module.
+	 */
+	@Test
+	public void testVectorized() {
+		assertEquals(Boolean.getBoolean("bulkKernels.vectorized"), BulkKernels.isVectorized());
+	}
+
+	@Test
+	public void testMultiply() {
+		assertBulk(new MultiplyConverter(0.3048d));
+	}
+
+	@Test
+	public void testDivide() {
+		assertBulk(new MultiplyConverter(0.3048d).inverse());
+	}
+
+	@Test
+	public void testAdd() {
+		assertBulk(new AddConverter(273.15d));
+	}
+
+	@Test
+	public void testAffine() {
+		assertBulk(new AffineConverter(5d / 9d, 255.3722222222222d));
+	}
+
+	@Test
+	public void testAffineInverse() {
+		assertBulk(new AffineConverter(1.8d, 32d).inverse());
+	}
+}
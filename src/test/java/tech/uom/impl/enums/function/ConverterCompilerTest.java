@@ -0,0 +1,160 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class ConverterCompilerTest {
+
+	private static AbstractConverter chain() {
+		// decibel-like: 10 * log10(x * 1000) + 3, then back through exp(x / 2)
+		return new ExpConverter(Math.E).concatenate(new MultiplyConverter(0.5d))
+				.concatenate(new AddConverter(3d)).concatenate(new MultiplyConverter(10d))
+				.concatenate(new LogConverter(10d)).concatenate(new MultiplyConverter(1000d));
+	}
+
+	@Test
+	public void testCompileSameValues() {
+		AbstractConverter chain = chain();
+		AbstractConverter compiled = ConverterCompiler.compile(chain);
+		AbstractConverter normalized = AbstractConverter.normalize(chain);
+		for (double x = 0.001d; x < 1e6; x *= 1.7d) {
+			assertEquals(normalized.convert(x), compiled.convert(x), 0d);
+			assertEquals(chain.convert(x), compiled.convert(x), Math.ulp(chain.convert(x)) * 4);
+		}
+	}
+
+	@Test
+	public void testCompileAllBases() {
+		AbstractConverter chain = new LogConverter(2d).concatenate(new ExpConverter(3d))
+				.concatenate(new LogConverter(Math.E)).concatenate(new AffineConverter(2d, 1d));
+		AbstractConverter compiled = ConverterCompiler.compile(chain);
+		for (double x = 0.5d; x < 100d; x += 0.75d) {
+			assertEquals(chain.convert(x), compiled.convert(x), 0d);
+		}
+	}
+
+	@Test
+	public void testCompileSingleStep() {
+		assertSame(AbstractConverter.IDENTITY, ConverterCompiler.compile(AbstractConverter.IDENTITY));
+		LogConverter log = new LogConverter(10d);
+		assertSame(log, ConverterCompiler.compile(log));
+		assertEquals(new AffineConverter(6d, 1d),
+				ConverterCompiler.compile(new AddConverter(1d).concatenate(new MultiplyConverter(3d)).concatenate(new MultiplyConverter(2d))));
+	}
+
+	@Test
+	public void testCompileOpaque() {
+		UnitConverter sqrt = new Sqrt();
+		UnitConverter chain = new MultiplyConverter(2d).concatenate(sqrt).concatenate(new AddConverter(1d));
+		AbstractConverter compiled = ConverterCompiler.compile(chain);
+		assertEquals(2d * Math.sqrt(4d), compiled.convert(3d), 0d);
+		assertSame(compiled, ConverterCompiler.compile(compiled));
+	}
+
+	@Test
+	public void testBulk() {
+		AbstractConverter compiled = ConverterCompiler.compile(chain());
+		double[] values = { 1d, 2d, 3d, 40d };
+		double[] converted = new double[4];
+		compiled.convert(values, 0, converted, 0, 4);
+		for (int i = 0; i < 4; i++) {
+			assertEquals(compiled.convert(values[i]), converted[i], 0d);
+		}
+	}
+
+	@Test
+	public void testInverse() {
+		AbstractConverter compiled = ConverterCompiler.compile(chain());
+		AbstractConverter inverse = compiled.inverse();
+		assertSame(inverse, compiled.inverse());
+		assertEquals(5d, inverse.convert(compiled.convert(5d)), 1e-9);
+	}
+
+	@Test
+	public void testEquals() {
+		AbstractConverter compiled = ConverterCompiler.compile(chain());
+		assertEquals(compiled, ConverterCompiler.compile(chain()));
+		assertEquals(compiled.hashCode(), ConverterCompiler.compile(chain()).hashCode());
+		assertNotEquals(compiled, ConverterCompiler.compile(chain().concatenate(new ExpConverter(2d))));
+		assertEquals(AbstractConverter.normalize(chain()).getConversionSteps(), compiled.getConversionSteps());
+		assertTrue(!compiled.isLinear());
+	}
+
+	/**
+	 * A converter that is none of ours, so it is called as it is.
+	 */
+	private static final class Sqrt implements UnitConverter {
+		@Override
+		public boolean isIdentity() {
+			return false;
+		}
+
+		@Override
+		public boolean isLinear() {
+			return false;
+		}
+
+		@Override
+		public UnitConverter inverse() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Number convert(Number value) {
+			return convert(value.doubleValue());
+		}
+
+		@Override
+		public double convert(double value) {
+			return Math.sqrt(value);
+		}
+
+		@Override
+		public UnitConverter concatenate(UnitConverter converter) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public java.util.List<? extends UnitConverter> getConversionSteps() {
+			return java.util.Collections.singletonList(this);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class ExpConverterTest {
+
+	@Test
+	public void testConvert() {
+		assertEquals(1000d, new ExpConverter(10d).convert(3d), 1e-12);
+		assertEquals(Math.E, new ExpConverter(Math.E).convert(1d));
+		assertEquals(0.5d, new ExpConverter(2d).convert(-1d));
+	}
+
+	@Test
+	public void testConvertArray() {
+		ExpConverter cvtr = new ExpConverter(2d);
+		double[] values = { 0d, 1d, 10d, -2d };
+		cvtr.convert(values);
+		assertEquals(1d, values[0]);
+		assertEquals(2d, values[1]);
+		assertEquals(1024d, values[2]);
+		assertEquals(0.25d, values[3]);
+	}
+
+	@Test
+	public void testInverse() {
+		ExpConverter cvtr = new ExpConverter(10d);
+		LogConverter inverse = cvtr.inverse();
+		assertEquals(new LogConverter(10d), inverse);
+		assertSame(inverse, cvtr.inverse());
+		assertSame(cvtr, inverse.inverse());
+		assertEquals(3d, inverse.convert(cvtr.convert(3d)), 1e-15);
+	}
+
+	@Test
+	public void testConcatenate() {
+		ExpConverter exp = new ExpConverter(2d);
+		assertSame(AbstractConverter.IDENTITY, exp.concatenate(exp.inverse()));
+		assertSame(AbstractConverter.IDENTITY, exp.inverse().concatenate(exp));
+		assertEquals(2, exp.concatenate(new LogConverter(10d)).getConversionSteps().size());
+	}
+
+	@Test
+	public void testEquals() {
+		assertEquals(new ExpConverter(2d), new ExpConverter(2d));
+		assertEquals(new ExpConverter(2d).hashCode(), new ExpConverter(2d).hashCode());
+		assertNotEquals(new ExpConverter(2d), new ExpConverter(3d));
+		assertNotEquals(new ExpConverter(2d), new LogConverter(2d));
+	}
+
+	@Test
+	public void testGetType() {
+		assertEquals(ConversionType.EXPONENT, new ExpConverter(2d).getType());
+		assertFalse(new ExpConverter(2d).isLinear());
+	}
+
+	@Test
+	public void testInvalidBase() {
+		assertThrows(IllegalArgumentException.class, () -> new ExpConverter(1d));
+		assertThrows(IllegalArgumentException.class, () -> new ExpConverter(0d));
+		assertThrows(IllegalArgumentException.class, () -> new ExpConverter(Double.NaN));
+	}
+}
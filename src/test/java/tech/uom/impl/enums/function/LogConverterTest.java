@@ -0,0 +1,82 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class LogConverterTest {
+
+	@Test
+	public void testConvert() {
+		assertEquals(3d, new LogConverter(10d).convert(1000d));
+		assertEquals(1d, new LogConverter(Math.E).convert(Math.E));
+		assertEquals(10d, new LogConverter(2d).convert(1024d), 1e-15);
+		assertEquals(Double.NaN, new LogConverter(10d).convert(-1d));
+	}
+
+	@Test
+	public void testConvertArray() {
+		double[] values = { 1d, 10d, 0.01d };
+		double[] result = new double[3];
+		new LogConverter(10d).convert(values, 0, result, 0, 3);
+		assertEquals(0d, result[0]);
+		assertEquals(1d, result[1]);
+		assertEquals(-2d, result[2]);
+		new LogConverter(3d).convert(values, 0, result, 0, 3);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(new LogConverter(3d).convert(values[i]), result[i]);
+		}
+	}
+
+	@Test
+	public void testInverse() {
+		LogConverter cvtr = new LogConverter(2d);
+		assertEquals(new ExpConverter(2d), cvtr.inverse());
+		assertSame(cvtr, cvtr.inverse().inverse());
+	}
+
+	@Test
+	public void testGetType() {
+		assertEquals(ConversionType.LOG, new LogConverter(2d).getType());
+	}
+
+	@Test
+	public void testInvalidBase() {
+		assertThrows(IllegalArgumentException.class, () -> new LogConverter(-2d));
+		assertThrows(IllegalArgumentException.class, () -> new LogConverter(Double.POSITIVE_INFINITY));
+	}
+}
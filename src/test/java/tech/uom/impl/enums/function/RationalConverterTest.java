@@ -0,0 +1,146 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.unit.DistanceUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
+
+/**
+ * @author Werner Keil
+ */
+public class RationalConverterTest {
+
+	@Test
+	public void testReduced() {
+		RationalConverter cvtr = new RationalConverter(-120, -3600);
+		assertEquals(1, cvtr.getDividend());
+		assertEquals(30, cvtr.getDivisor());
+		assertEquals(new RationalConverter(2, 60), cvtr);
+		assertEquals(new RationalConverter(2, 60).hashCode(), cvtr.hashCode());
+		assertEquals(-1, new RationalConverter(1, -5).getDividend());
+		assertSame(AbstractConverter.IDENTITY, RationalConverter.of(7, 7));
+		assertThrows(IllegalArgumentException.class, () -> new RationalConverter(3, 3));
+		assertThrows(IllegalArgumentException.class, () -> new RationalConverter(3, 0));
+	}
+
+	@Test
+	public void testMinValue() {
+		assertThrows(IllegalArgumentException.class, () -> new RationalConverter(1, Long.MIN_VALUE));
+		assertThrows(IllegalArgumentException.class, () -> new RationalConverter(Long.MIN_VALUE, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RationalConverter(Long.MIN_VALUE, -3));
+		RationalConverter cvtr = new RationalConverter(2, Long.MIN_VALUE);
+		assertEquals(-1, cvtr.getDividend());
+		assertEquals(1L << 62, cvtr.getDivisor());
+		assertEquals(new RationalConverter(Long.MIN_VALUE, 2), cvtr.inverse());
+	}
+
+	@Test
+	public void testConvertExact() {
+		RationalConverter cvtr = new RationalConverter(1, 1000);
+		assertEquals(1L, cvtr.convertExact(1999L));
+		assertEquals(-1L, cvtr.convertExact(-1999L));
+		long large = (1L << 53) + 1;
+		assertEquals(large, new RationalConverter(1000, 1).inverse().convertExact(large * 1000));
+		assertThrows(ArithmeticException.class, () -> new RationalConverter(1000, 1).convertExact(Long.MAX_VALUE / 10));
+	}
+
+	@Test
+	public void testConvertExactArray() {
+		long[] values = { 1000L, 2500L, -3000L };
+		new RationalConverter(1, 1000).convertExact(values, 0, values, 0, values.length);
+		assertArrayEquals(new long[] { 1L, 2L, -3L }, values);
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> new RationalConverter(1, 1000).convertExact(values, 1, values, 0, values.length));
+	}
+
+	@Test
+	public void testConvertNumber() {
+		RationalConverter cvtr = new RationalConverter(3600, 1);
+		long large = (1L << 50) + 1;
+		assertEquals(Long.valueOf(large * 3600), cvtr.convert(Long.valueOf(large)));
+		assertEquals(Double.valueOf(Long.MAX_VALUE * 3600d), cvtr.convert(Long.valueOf(Long.MAX_VALUE)));
+		assertEquals(Long.valueOf(7200), cvtr.convert(Integer.valueOf(2)));
+		assertEquals(Double.valueOf(0.5d), cvtr.inverse().convert(Integer.valueOf(1800)));
+		assertEquals(Double.valueOf(1d / 3600), cvtr.inverse().convert(Integer.valueOf(1)));
+		assertEquals(Double.valueOf(5400d), cvtr.convert(Double.valueOf(1.5d)));
+	}
+
+	@Test
+	public void testConvertDouble() {
+		assertEquals(1.5d, new RationalConverter(1, 60).convert(90d));
+		double[] values = { 1d, 2d };
+		new RationalConverter(1000, 1).convert(values);
+		assertArrayEquals(new double[] { 1000d, 2000d }, values);
+	}
+
+	@Test
+	public void testInverse() {
+		RationalConverter cvtr = new RationalConverter(60, 1);
+		assertEquals(new RationalConverter(1, 60), cvtr.inverse());
+		assertSame(cvtr, cvtr.inverse().inverse());
+	}
+
+	@Test
+	public void testConcatenate() {
+		AbstractConverter cvtr = new RationalConverter(3600, 1).concatenate(new RationalConverter(1, 1000));
+		assertEquals(new RationalConverter(18, 5), cvtr);
+		assertSame(AbstractConverter.IDENTITY, new RationalConverter(60, 1).concatenate(new RationalConverter(1, 60)));
+		cvtr = new RationalConverter(Long.MAX_VALUE, 1).concatenate(new RationalConverter(3, 1));
+		assertEquals(AffineConverter.of(3d * Long.MAX_VALUE, 0d), cvtr);
+		cvtr = new RationalConverter(2, 1).concatenate(new AddConverter(1d));
+		assertEquals(5d, cvtr.convert(1.5d));
+	}
+
+	@Test
+	public void testUnitTables() {
+		assertRational(TimeUnit.HOUR.getConverterTo(TimeUnit.MILLISECOND), 3_600_000, 1);
+		assertRational(TimeUnit.MILLISECOND.getConverterTo(TimeUnit.MINUTE), 1, 60_000);
+		assertRational(DistanceUnit.METRE.getConverterTo(DistanceUnit.KILOMETRE), 1, 1000);
+		assertEquals(3_600_000d, TimeUnit.HOUR.getConverterTo(TimeUnit.MILLISECOND).convert(1d));
+		assertNotEquals(new MultiplyConverter(60d), TimeUnit.MINUTE.getConverterTo(TimeUnit.SECOND));
+	}
+
+	private static void assertRational(UnitConverter cvtr, long dividend, long divisor) {
+		assertTrue(cvtr instanceof RationalConverter);
+		assertEquals(dividend, ((RationalConverter) cvtr).getDividend());
+		assertEquals(divisor, ((RationalConverter) cvtr).getDivisor());
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tech.uom.impl.enums.unit.DimensionlessUnit.ONE;
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Dimensionless;
+
+import org.junit.jupiter.api.Test;
+
+public class DimensionlessTest {
+
+	@Test
+	public void testArithmetic() {
+		DimensionlessQuantity d = new DimensionlessQuantity(4d, ONE);
+		assertEquals(6d, d.add(new DimensionlessQuantity(2d, ONE)).getValue());
+		assertEquals(2d, d.subtract(new DimensionlessQuantity(2d, ONE)).getValue());
+		assertEquals(8d, d.multiply((Number) 2).getValue());
+		assertEquals(1d, d.divide((Number) 4).getValue());
+		assertEquals(0.25d, d.inverse().getValue());
+	}
+
+	@Test
+	public void testMultiplyQuantity() {
+		DimensionlessQuantity d = new DimensionlessQuantity(3d, ONE);
+		Quantity<?> t = d.multiply((Quantity<?>) new TimeQuantity(20d, MINUTE));
+		assertEquals(60d, t.getValue().doubleValue());
+		assertEquals(MINUTE, t.getUnit());
+	}
+
+	@Test
+	public void testMultiplyDimensionless() {
+		DimensionlessQuantity d = new DimensionlessQuantity(2d, ONE);
+		DimensionlessQuantity product = d.multiply(new DimensionlessQuantity(3d, ONE));
+		assertEquals(6d, product.getValue());
+		assertEquals(ONE, product.getUnit());
+	}
+
+	@Test
+	public void testToAndEquals() {
+		DimensionlessQuantity d = new DimensionlessQuantity(3d, ONE);
+		Quantity<Dimensionless> same = d.to(ONE);
+		assertSame(d, same);
+		assertEquals(new DimensionlessQuantity(3d, ONE), d);
+		assertEquals(0, d.compareTo(new DimensionlessQuantity(3d, ONE)));
+	}
+
+	@Test
+	public void testDoubleQuantity() {
+		DimensionlessQuantity d = new DimensionlessQuantity(3d, ONE);
+		assertEquals(3d, d.doubleValue());
+		assertEquals(3d, d.doubleValue(ONE));
+		assertEquals(4.5d, d.plus(1.5d).doubleValue());
+		assertEquals(9d, d.times(3d).doubleValue());
+	}
+}
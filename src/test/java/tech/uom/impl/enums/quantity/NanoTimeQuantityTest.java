@@ -0,0 +1,178 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.uom.impl.enums.unit.TimeUnit.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class NanoTimeQuantityTest {
+
+	@Test
+	public void testOf() {
+		NanoTimeQuantity q = NanoTimeQuantity.of(3L, MILLISECOND);
+		assertEquals(3_000_000L, q.toNanos());
+		assertEquals(Long.valueOf(3L), q.getValue());
+		assertEquals(MILLISECOND, q.getUnit());
+		assertEquals(90_000_000_000L, NanoTimeQuantity.of(90L, TimeUnit.SECONDS).toNanos());
+		assertEquals(SECOND, NanoTimeQuantity.of(90L, TimeUnit.SECONDS).getUnit());
+		assertThrows(ArithmeticException.class, () -> NanoTimeQuantity.of(300L * 365, DAY));
+	}
+
+	@Test
+	public void testTo() {
+		NanoTimeQuantity q = NanoTimeQuantity.ofNanos(1_500_000_001L);
+		NanoTimeQuantity s = q.to(SECOND);
+		assertEquals(1_500_000_001L, s.toNanos());
+		assertEquals(Double.valueOf(1.500000001d), s.getValue());
+		assertEquals(q.toNanos(), s.to(MILLISECOND).to(NANOSECOND).toNanos());
+		assertSame(s, s.to(SECOND));
+		assertEquals("1.500000001 s", s.toString());
+		assertEquals("1500000001 ns", q.toString());
+	}
+
+	@Test
+	public void testConcurrentTimeUnit() {
+		NanoTimeQuantity q = NanoTimeQuantity.ofNanos(2_999_999L);
+		assertEquals(2L, q.to(TimeUnit.MILLISECONDS));
+		assertEquals(2_999L, q.to(TimeUnit.MICROSECONDS));
+		assertEquals(Long.MAX_VALUE, NanoTimeQuantity.ofNanos(Long.MAX_VALUE).to(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void testDuration() {
+		Duration d = Duration.ofSeconds(12, 345);
+		NanoTimeQuantity q = NanoTimeQuantity.of(d);
+		assertEquals(12_000_000_345L, q.toNanos());
+		assertEquals(d, q.toDuration());
+		assertThrows(ArithmeticException.class, () -> NanoTimeQuantity.of(Duration.ofDays(365L * 300)));
+	}
+
+	@Test
+	public void testArithmetic() {
+		NanoTimeQuantity q = NanoTimeQuantity.of(1L, SECOND);
+		assertEquals(1_000_000_001L, q.add(NanoTimeQuantity.ofNanos(1L)).toNanos());
+		assertEquals(1_500_000_000L, q.add(new TimeQuantity(0.5d, SECOND)).toNanos());
+		assertEquals(-59_000_000_000L, q.subtract(NanoTimeQuantity.of(1L, MINUTE)).toNanos());
+		assertEquals(3_000_000_000L, q.multiply(3).toNanos());
+		assertEquals(333_333_333L, q.divide(3).toNanos());
+		assertEquals(666_666_667L, q.multiply(2).divide(3).toNanos());
+		assertEquals(-666_666_667L, q.multiply(-2).divide(3L).toNanos());
+		assertEquals(250_000_000L, q.multiply(0.25d).toNanos());
+		assertEquals(-1_000_000_000L, q.negate().toNanos());
+		assertEquals(60d, NanoTimeQuantity.of(1L, MINUTE).divide(q).getValue().doubleValue());
+		assertThrows(ArithmeticException.class, () -> NanoTimeQuantity.ofNanos(Long.MAX_VALUE).add(NanoTimeQuantity.ofNanos(1L)));
+	}
+
+	@Test
+	public void testDivideExtremes() {
+		NanoTimeQuantity min = NanoTimeQuantity.ofNanos(Long.MIN_VALUE);
+		assertThrows(ArithmeticException.class, () -> min.divide(-1L));
+		assertEquals(1L, min.divide(Long.MIN_VALUE).toNanos());
+		assertEquals(-1L, NanoTimeQuantity.ofNanos(Long.MAX_VALUE).divide(Long.MIN_VALUE).toNanos());
+		assertEquals(0L, NanoTimeQuantity.ofNanos(Long.MAX_VALUE / 2).divide(Long.MIN_VALUE).toNanos());
+		assertEquals(Long.MIN_VALUE / 2, min.divide(2L).toNanos());
+		assertEquals(Long.MIN_VALUE + 1, NanoTimeQuantity.ofNanos(Long.MAX_VALUE).divide(-1L).toNanos());
+		assertEquals(-2L, NanoTimeQuantity.ofNanos(-3L).divide(2L).toNanos());
+	}
+
+	@Test
+	public void testDoubleBeyond53Bits() {
+		NanoTimeQuantity q = NanoTimeQuantity.ofNanos((1L << 53) + 1);
+		assertEquals((1L << 53) + 1, q.times(1d).toNanos());
+		assertEquals((1L << 54) + 2, q.multiply(2d).toNanos());
+		assertEquals((1L << 52) + 1, q.times(0.5d).toNanos());
+		assertEquals((1L << 52) + 1, q.divide(2d).toNanos());
+		assertEquals(Long.MAX_VALUE, NanoTimeQuantity.ofNanos(Long.MAX_VALUE).times(1d).toNanos());
+		assertEquals(-2L, NanoTimeQuantity.ofNanos(-3L).times(0.5d).toNanos());
+		assertEquals(0L, q.divide(Double.POSITIVE_INFINITY).toNanos());
+	}
+
+	@Test
+	public void testCompareAndEquals() {
+		NanoTimeQuantity ms = NanoTimeQuantity.of(1000L, MILLISECOND);
+		NanoTimeQuantity s = NanoTimeQuantity.of(1L, SECOND);
+		assertEquals(0, ms.compareTo(s));
+		assertTrue(ms.isEquivalentTo(s));
+		assertNotEquals(ms, s);
+		assertEquals(s, ms.to(SECOND));
+		assertEquals(s.hashCode(), ms.to(SECOND).hashCode());
+		assertTrue(NanoTimeQuantity.ofNanos(1L).compareTo(new TimeQuantity(0d, HOUR)) > 0);
+	}
+
+	@Test
+	public void testOfQuantity() {
+		NanoTimeQuantity q = NanoTimeQuantity.of(new TimeQuantity(1.5d, HOUR));
+		assertEquals(5_400_000_000_000L, q.toNanos());
+		assertEquals(HOUR, q.getUnit());
+		assertEquals(Double.valueOf(1.5d), q.getValue());
+	}
+
+	@Test
+	public void testDoubleQuantity() {
+		NanoTimeQuantity q = NanoTimeQuantity.of(1500L, MILLISECOND);
+		assertEquals(1500d, q.doubleValue());
+		assertEquals(1.5d, q.doubleValue(SECOND));
+		assertEquals(1_500_000_500L, q.plus(0.0005d).toNanos());
+		assertEquals(3_000_000_000L, q.times(2d).toNanos());
+		assertEquals(MILLISECOND, q.times(2d).getUnit());
+		assertEquals(0.025d, q.doubleValue(MINUTE), 1e-12);
+	}
+
+	@Test
+	public void testDoubleOverflow() {
+		NanoTimeQuantity q = NanoTimeQuantity.of(200L * 365, DAY);
+		assertThrows(ArithmeticException.class, () -> q.times(2d));
+		assertThrows(ArithmeticException.class, () -> q.multiply(2d));
+		assertThrows(ArithmeticException.class, () -> q.divide(0.5d));
+		assertThrows(ArithmeticException.class, () -> q.divide(0d));
+		assertThrows(ArithmeticException.class, () -> q.times(Double.NaN));
+		assertThrows(ArithmeticException.class, () -> NanoTimeQuantity.ofNanos(0L).plus(1e19d));
+		assertThrows(ArithmeticException.class, () -> NanoTimeQuantity.ofNanos(-1L).add(new TimeQuantity(1e12d, SECOND)));
+		assertEquals(Long.MIN_VALUE, NanoTimeQuantity.ofNanos(Long.MIN_VALUE).times(1d).toNanos());
+	}
+
+	@Test
+	public void testValueIn() {
+		NanoTimeQuantity q = NanoTimeQuantity.ofNanos(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE / 1_000_000_000L, q.longValueIn(SECOND));
+		assertEquals(Long.MAX_VALUE, q.longValueIn(NANOSECOND));
+		assertEquals(1.5d, NanoTimeQuantity.of(1500L, MILLISECOND).doubleValueIn(SECOND));
+		assertEquals(1L, NanoTimeQuantity.of(119L, SECOND).longValueIn(MINUTE));
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.unit.DimensionlessUnit;
+import tech.uom.impl.enums.unit.DistanceUnit;
+import tech.uom.impl.enums.unit.ShirtSizeUnit;
+import tech.uom.impl.enums.unit.TemperatureUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
+
+public class QuantitiesTest {
+
+	@Test
+	public void testTemperature() {
+		Quantity<Temperature> q = Quantities.getQuantity(20, TemperatureUnit.CELSIUS);
+		assertTrue(q instanceof TemperatureQuantity);
+		assertEquals(20d, q.getValue());
+		assertSame(TemperatureUnit.CELSIUS, q.getUnit());
+	}
+
+	@Test
+	public void testTime() {
+		Quantity<Time> q = Quantities.getQuantity(1.5d, TimeUnit.HOUR);
+		assertTrue(q instanceof TimeQuantity);
+		assertEquals(90d, q.to(TimeUnit.MINUTE).getValue().doubleValue(), 1e-12);
+	}
+
+	@Test
+	public void testDimensionless() {
+		assertTrue(Quantities.getQuantity(3, DimensionlessUnit.ONE) instanceof DimensionlessQuantity);
+		Quantity<Length> q = Quantities.getQuantity(3, DistanceUnit.METRE);
+		assertSame(DistanceUnit.METRE, q.getUnit());
+	}
+
+	@Test
+	public void testServiceLoaderFactory() {
+		Object q = Quantities.getQuantity(2, ShirtSizeUnit.SML);
+		assertTrue(q instanceof SizeQuantity);
+	}
+
+	@Test
+	public void testPrimitiveValue() {
+		assertEquals(new TimeQuantity(1.5d, TimeUnit.HOUR), Quantities.getQuantity(1.5d, TimeUnit.HOUR));
+		assertEquals(new TemperatureQuantity(20d, TemperatureUnit.CELSIUS), Quantities.getQuantity(20d, TemperatureUnit.CELSIUS));
+		assertEquals(new DimensionlessQuantity(3d, DimensionlessUnit.ONE), Quantities.getQuantity(3d, DimensionlessUnit.ONE));
+		Object size = Quantities.getQuantity(2d, ShirtSizeUnit.SML);
+		assertTrue(size instanceof SizeQuantity);
+	}
+
+	@Test
+	public void testNull() {
+		assertThrows(NullPointerException.class, () -> Quantities.getQuantity(null, TimeUnit.SECOND));
+		assertThrows(NullPointerException.class, () -> Quantities.getQuantity(1, null));
+	}
+
+	/**
+	 * Registered in META-INF/services of the tests.
+	 */
+	public static final class SizeFactory implements UnitQuantityFactory {
+		@Override
+		public Class<?> getUnitType() {
+			return ShirtSizeUnit.class;
+		}
+
+		@Override
+		public Quantity<?> create(Number value, Unit<?> unit) {
+			return new SizeQuantity(value, unit);
+		}
+	}
+
+	static final class SizeQuantity extends DimensionlessQuantity {
+		SizeQuantity(Number value, Unit<?> unit) {
+			super(value, unit);
+		}
+	}
+}
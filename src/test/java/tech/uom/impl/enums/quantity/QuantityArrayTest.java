@@ -0,0 +1,119 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.uom.impl.enums.unit.TimeUnit.HOUR;
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+import static tech.uom.impl.enums.unit.TimeUnit.SECOND;
+
+import java.util.List;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Time;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Werner Keil
+ */
+public class QuantityArrayTest {
+
+	@Test
+	public void testGetSet() {
+		QuantityArray<Time> times = QuantityArray.of(MINUTE, 1d, 2d, 3d);
+		assertEquals(3, times.size());
+		assertEquals(2d, times.get(1));
+		times.set(1, 5d);
+		assertEquals(5d, times.get(1));
+		times.set(2, new TimeQuantity(2d, HOUR));
+		assertEquals(120d, times.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> times.get(3));
+	}
+
+	@Test
+	public void testWrapSharesValues() {
+		double[] values = { 1d, 2d };
+		QuantityArray<Time> times = QuantityArray.wrap(values, SECOND);
+		values[0] = 7d;
+		assertEquals(7d, times.get(0));
+		QuantityArray<Time> copy = QuantityArray.of(SECOND, values);
+		values[0] = 8d;
+		assertEquals(7d, copy.get(0));
+	}
+
+	@Test
+	public void testSubArray() {
+		QuantityArray<Time> times = QuantityArray.of(SECOND, 0d, 1d, 2d, 3d, 4d);
+		QuantityArray<Time> sub = times.subArray(1, 4);
+		assertEquals(3, sub.size());
+		assertEquals(1d, sub.get(0));
+		sub.set(2, 9d);
+		assertEquals(9d, times.get(3));
+		assertArrayEquals(new double[] { 1d, 2d, 9d }, sub.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> sub.get(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> times.subArray(2, 6));
+	}
+
+	@Test
+	public void testTo() {
+		QuantityArray<Time> minutes = QuantityArray.of(MINUTE, 1d, 1.5d, 60d).subArray(1, 3);
+		QuantityArray<Time> seconds = minutes.to(SECOND);
+		assertEquals(SECOND, seconds.getUnit());
+		assertArrayEquals(new double[] { 90d, 3600d }, seconds.toArray());
+		assertSame(seconds, seconds.to(SECOND));
+		double[] hours = new double[3];
+		minutes.copyTo(HOUR, hours, 1);
+		assertArrayEquals(new double[] { 0d, 0.025d, 1d }, hours, 1e-15);
+	}
+
+	@Test
+	public void testQuantities() {
+		QuantityArray<Time> times = QuantityArray.of(MINUTE, 30d, 45d);
+		Quantity<Time> q = times.getQuantity(1);
+		assertEquals(45d, q.getValue().doubleValue());
+		assertEquals(MINUTE, q.getUnit());
+		List<Quantity<Time>> list = times.asList();
+		assertEquals(2, list.size());
+		list.set(0, new TimeQuantity(1d, HOUR));
+		assertEquals(60d, times.get(0));
+	}
+
+	@Test
+	public void testEqualsAndToString() {
+		QuantityArray<Time> times = QuantityArray.of(SECOND, 0d, 1.5d, 2d);
+		assertEquals(QuantityArray.of(SECOND, 1.5d, 2d), times.subArray(1, 3));
+		assertEquals(QuantityArray.of(SECOND, 1.5d, 2d).hashCode(), times.subArray(1, 3).hashCode());
+		assertEquals("[1.5, 2.0] s", times.subArray(1, 3).toString());
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.quantity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.uom.impl.enums.unit.TemperatureUnit.CELSIUS;
+import static tech.uom.impl.enums.unit.TemperatureUnit.KELVIN;
+import static tech.uom.impl.enums.unit.TimeUnit.HOUR;
+import static tech.uom.impl.enums.unit.TimeUnit.MINUTE;
+import static tech.uom.impl.enums.unit.TimeUnit.SECOND;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class QuantityBatchesTest {
+
+	private static final int SIZE = 10000;
+	private static final int THRESHOLD = 100;
+	private static ForkJoinPool pool;
+
+	@BeforeAll
+	public static void createPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterAll
+	public static void shutdownPool() {
+		pool.shutdown();
+	}
+
+	private static double[] values() {
+		double[] values = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = i;
+		}
+		return values;
+	}
+
+	@Test
+	public void testConvertParallel() {
+		double[] src = values();
+		double[] dst = new double[SIZE + 1];
+		QuantityBatches.convertParallel(MINUTE.getConverterTo(SECOND), src, 0, dst, 1, SIZE, pool, THRESHOLD);
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals(i * 60d, dst[i + 1]);
+		}
+	}
+
+	@Test
+	public void testConvertParallelInPlace() {
+		double[] values = values();
+		QuantityBatches.convertParallel(CELSIUS.getConverterTo(KELVIN), values, 0, values, 0, SIZE, pool, THRESHOLD);
+		assertEquals(273.15d, values[0], 1e-9);
+		assertEquals(SIZE - 1 + 273.15d, values[SIZE - 1], 1e-9);
+	}
+
+	@Test
+	public void testConvertParallelOverlapping() {
+		double[] values = values();
+		QuantityBatches.convertParallel(MINUTE.getConverterTo(SECOND), values, 0, values, 1, SIZE - 1, pool, THRESHOLD);
+		assertEquals(0d, values[0]);
+		for (int i = 1; i < SIZE; i++) {
+			assertEquals((i - 1) * 60d, values[i]);
+		}
+	}
+
+	@Test
+	public void testConvertParallelArray() {
+		QuantityArray<Time> minutes = QuantityArray.wrap(values(), MINUTE);
+		QuantityArray<Time> hours = QuantityBatches.convertParallel(minutes.subArray(60, 180), HOUR, pool, THRESHOLD);
+		assertEquals(HOUR, hours.getUnit());
+		assertEquals(120, hours.size());
+		assertEquals(1d, hours.get(0));
+		assertEquals(2d, hours.get(60));
+	}
+
+	@Test
+	public void testSumParallel() {
+		assertEquals(SIZE * (SIZE - 1) / 2d, QuantityBatches.sumParallel(values(), 0, SIZE, pool, THRESHOLD));
+		assertEquals(SIZE * (SIZE - 1) / 2d, QuantityBatches.sumParallel(values(), 0, SIZE));
+		assertEquals(0d, QuantityBatches.sumParallel(values(), 0, 0, pool, THRESHOLD));
+	}
+
+	@Test
+	public void testSumParallelArray() {
+		Quantity<Time> sum = QuantityBatches.sumParallel(QuantityArray.wrap(values(), SECOND), MINUTE, pool, THRESHOLD);
+		assertEquals(SIZE * (SIZE - 1) / 120d, sum.getValue().doubleValue(), 1e-6);
+		assertEquals(MINUTE, sum.getUnit());
+		// affine conversion: each value is converted before summing
+		Quantity<Temperature> kelvin = QuantityBatches.sumParallel(QuantityArray.of(CELSIUS, 0d, 10d), KELVIN, pool, 1);
+		assertEquals(2 * 273.15d + 10d, kelvin.getValue().doubleValue(), 1e-9);
+	}
+
+	@Test
+	public void testSumParallelQuantities() {
+		List<Quantity<Time>> times = new ArrayList<>();
+		for (int i = 0; i < SIZE; i++) {
+			times.add(new TimeQuantity(1d, i % 2 == 0 ? MINUTE : HOUR));
+		}
+		Quantity<Time> sum = QuantityBatches.sumParallel(times, MINUTE, pool, THRESHOLD);
+		assertEquals(SIZE / 2 * 61d, sum.getValue().doubleValue(), 1e-9);
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> QuantityBatches.sumParallel(values(), 0, SIZE, pool, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> QuantityBatches.sumParallel(values(), 1, SIZE, pool, THRESHOLD));
+	}
+}
@@ -32,11 +32,11 @@ package tech.uom.impl.enums.quantity;
 import static tech.uom.impl.enums.unit.TemperatureUnit.*;
 import static javax.measure.Quantity.Scale.*;
 import static  org.junit.jupiter.api.Assertions.assertEquals;
+import static  org.junit.jupiter.api.Assertions.assertTrue;
 
 import javax.measure.Quantity;
 import javax.measure.quantity.Temperature;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 public class TemperatureTest {
@@ -68,12 +68,30 @@ public class TemperatureTest {
     }
 
     @Test
-    @Disabled
     public void testTo() {
         TemperatureQuantity t = new TemperatureQuantity(Double.valueOf(30d), CELSIUS);
         Quantity<Temperature> t2 = t.to(FAHRENHEIT);
         assertEquals(RELATIVE, t.getScale());
-        assertEquals(Double.valueOf(20d), t2.getValue());
+        assertEquals(86d, t2.getValue().doubleValue());
+        assertEquals(32d, new TemperatureQuantity(0d, CELSIUS).to(FAHRENHEIT).getValue().doubleValue());
+        assertEquals(212d, new TemperatureQuantity(100d, CELSIUS).to(FAHRENHEIT).getValue().doubleValue());
+        assertEquals(100d, new TemperatureQuantity(212d, FAHRENHEIT).to(CELSIUS).getValue().doubleValue());
+    }
+
+    @Test
+    public void testAdd() {
+        TemperatureQuantity t = new TemperatureQuantity(20d, CELSIUS);
+        assertEquals(30d, t.add(new TemperatureQuantity(10d, CELSIUS)).getValue().doubleValue());
+        // 50 °F is 10 °C
+        assertEquals(30d, t.add(new TemperatureQuantity(50d, FAHRENHEIT)).getValue().doubleValue());
+        assertEquals(CELSIUS, t.add(new TemperatureQuantity(50d, FAHRENHEIT)).getUnit());
+    }
+
+    @Test
+    public void testCompareTo() {
+        TemperatureQuantity t = new TemperatureQuantity(100d, CELSIUS);
+        assertEquals(0, t.compareTo(new TemperatureQuantity(373.15d, KELVIN)));
+        assertTrue(t.lt(new TemperatureQuantity(213d, FAHRENHEIT)));
     }
 
     @Test
@@ -82,4 +100,25 @@ public class TemperatureTest {
         assertEquals("25.0 K", t.toString());
         assertEquals(ABSOLUTE, t.getScale());
     }
+
+    @Test
+    public void testDoubleQuantity() {
+        TemperatureQuantity t = new TemperatureQuantity(30d, CELSIUS);
+        assertEquals(30d, t.doubleValue());
+        assertEquals(86d, t.doubleValue(FAHRENHEIT));
+        assertEquals(35d, t.plus(5d).doubleValue());
+        assertEquals(CELSIUS, t.times(2d).getUnit());
+        assertEquals(60d, t.times(2d).doubleValue());
+        assertEquals(new TemperatureQuantity(30d, CELSIUS), t);
+    }
+
+    @Test
+    public void testValueIn() {
+        TemperatureQuantity t = new TemperatureQuantity(30d, CELSIUS);
+        assertEquals(86d, t.doubleValueIn(FAHRENHEIT));
+        assertEquals(303L, t.longValueIn(KELVIN));
+        assertEquals(30L, t.longValueIn(CELSIUS));
+        assertEquals(32L, new TemperatureQuantity(0d, CELSIUS).longValueIn(FAHRENHEIT));
+        assertEquals(100L, new TemperatureQuantity(212d, FAHRENHEIT).longValueIn(CELSIUS));
+    }
 }
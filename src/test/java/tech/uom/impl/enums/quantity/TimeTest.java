@@ -30,13 +30,19 @@
 package tech.uom.impl.enums.quantity;
 
 import static  org.junit.jupiter.api.Assertions.assertEquals;
+import static  org.junit.jupiter.api.Assertions.assertThrows;
+import static  org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.uom.impl.enums.unit.TimeUnit.*;
 
+import java.util.Objects;
+
 import javax.measure.Quantity;
 import javax.measure.quantity.Time;
 
 import org.junit.jupiter.api.Test;
 
+import tech.uom.impl.enums.unit.DimensionlessUnit;
+
 public class TimeTest {
 	
 	@Test
@@ -66,9 +72,72 @@ public class TimeTest {
 		assertEquals(Double.valueOf(1800), t2.getValue());
 	}
 	
+	@Test
+	public void testAdd() {
+		TimeQuantity t = new TimeQuantity(30d, MINUTE);
+		assertEquals(45d, t.add(new TimeQuantity(15d, MINUTE)).getValue());
+		assertEquals(90d, t.add(new TimeQuantity(1d, HOUR)).getValue());
+		assertEquals(MINUTE, t.add(new TimeQuantity(1d, HOUR)).getUnit());
+		assertEquals(30.5d, t.add((Quantity<Time>) new TimeQuantity(30d, SECOND)).getValue());
+	}
+
+	@Test
+	public void testSubtract() {
+		TimeQuantity t = new TimeQuantity(2d, HOUR);
+		assertEquals(1.5d, t.subtract(new TimeQuantity(30d, MINUTE)).getValue());
+	}
+
+	@Test
+	public void testMultiplyDivide() {
+		TimeQuantity t = new TimeQuantity(2d, HOUR);
+		assertEquals(6d, t.multiply(3).getValue());
+		assertEquals(0.5d, t.divide((Number) 4).getValue());
+		Quantity<?> ratio = t.divide(new TimeQuantity(30d, MINUTE));
+		assertEquals(4d, ratio.getValue().doubleValue());
+		assertEquals(DimensionlessUnit.ONE, ratio.getUnit());
+		assertThrows(UnsupportedOperationException.class, () -> t.multiply(t));
+	}
+
+	@Test
+	public void testCompareTo() {
+		TimeQuantity t = new TimeQuantity(1d, HOUR);
+		assertEquals(0, t.compareTo(new TimeQuantity(60d, MINUTE)));
+		assertTrue(t.gt(new TimeQuantity(59d, MINUTE)));
+		assertTrue(t.isEquivalentTo(new TimeQuantity(3600d, SECOND)));
+	}
+
 	@Test
 	public void testNegate() {
 		TimeQuantity t = new TimeQuantity(Double.valueOf(15d), MINUTE);
 		assertEquals(Double.valueOf(-15d), t.negate().getValue());
 	}
+
+	@Test
+	public void testDoubleQuantity() {
+		TimeQuantity t = new TimeQuantity(2d, HOUR);
+		assertEquals(2d, t.doubleValue());
+		assertEquals(120d, t.doubleValue(MINUTE), 1e-9);
+		assertEquals(2.5d, t.plus(0.5d).doubleValue());
+		assertEquals(HOUR, t.times(3d).getUnit());
+		assertEquals(6d, t.times(3d).doubleValue());
+	}
+
+	@Test
+	public void testValueIn() {
+		TimeQuantity t = new TimeQuantity(1.5d, HOUR);
+		assertEquals(90d, t.doubleValueIn(MINUTE), 1e-9);
+		assertEquals(5400L, t.longValueIn(SECOND));
+		assertEquals(1L, t.longValueIn(HOUR));
+		assertEquals(0L, new TimeQuantity(59d, MINUTE).longValueIn(HOUR));
+		assertEquals(-1L, new TimeQuantity(-90d, MINUTE).longValueIn(HOUR));
+		assertEquals(3_600_000_000_000L, new TimeQuantity(1d, HOUR).longValueIn(NANOSECOND));
+		assertEquals(Long.MAX_VALUE, new TimeQuantity(1e15, DAY).longValueIn(NANOSECOND));
+	}
+
+	@Test
+	public void testHashCode() {
+		TimeQuantity t = new TimeQuantity(1.5d, HOUR);
+		assertEquals(Objects.hash(t.getValue(), t.getUnit(), t.getScale()), t.hashCode());
+		assertEquals(new TimeQuantity(1.5d, HOUR).hashCode(), t.hashCode());
+	}
 }
@@ -0,0 +1,100 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+import javax.measure.spi.FormatService;
+import javax.measure.spi.FormatService.FormatType;
+import javax.measure.spi.QuantityFactory;
+import javax.measure.spi.ServiceProvider;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.format.SimpleQuantityFormat;
+import tech.uom.impl.enums.format.SimpleUnitFormat;
+import tech.uom.impl.enums.quantity.TemperatureQuantity;
+import tech.uom.impl.enums.quantity.TimeQuantity;
+import tech.uom.impl.enums.unit.TemperatureUnit;
+import tech.uom.impl.enums.unit.TimeUnit;
+import tech.uom.impl.enums.unit.Units;
+
+/**
+ * @author Werner Keil
+ */
+public class EnumServiceProviderTest {
+
+	@Test
+	public void testCurrent() {
+		assertTrue(ServiceProvider.current() instanceof EnumServiceProvider);
+		assertTrue(ServiceProvider.of("EnumServiceProvider") instanceof EnumServiceProvider);
+	}
+
+	@Test
+	public void testSystemOfUnitsService() {
+		ServiceProvider provider = new EnumServiceProvider();
+		assertSame(Units.getInstance(), provider.getSystemOfUnitsService().getSystemOfUnits());
+		assertSame(Units.getInstance(), provider.getSystemOfUnitsService().getSystemOfUnits("Units"));
+		assertNull(provider.getSystemOfUnitsService().getSystemOfUnits("SI"));
+		assertEquals(1, provider.getSystemOfUnitsService().getAvailableSystemsOfUnits().size());
+	}
+
+	@Test
+	public void testFormatService() {
+		FormatService formats = new EnumServiceProvider().getFormatService();
+		assertSame(SimpleUnitFormat.getInstance(), formats.getUnitFormat());
+		assertSame(SimpleUnitFormat.getInstance(), formats.getUnitFormat("simple"));
+		assertSame(SimpleQuantityFormat.getInstance(), formats.getQuantityFormat());
+		assertSame(SimpleQuantityFormat.getDecimalInstance(), formats.getQuantityFormat("Decimal"));
+		assertNull(formats.getUnitFormat("UCUM"));
+		assertTrue(formats.getAvailableFormatNames(FormatType.QUANTITY_FORMAT).contains("Decimal"));
+		assertEquals(1, formats.getAvailableFormatNames(FormatType.UNIT_FORMAT).size());
+	}
+
+	@Test
+	public void testQuantityFactory() {
+		ServiceProvider provider = new EnumServiceProvider();
+		QuantityFactory<Time> times = provider.getQuantityFactory(Time.class);
+		assertSame(times, provider.getQuantityFactory(Time.class));
+		assertSame(TimeUnit.SECOND, times.getSystemUnit());
+		Quantity<Time> minute = times.create(1, TimeUnit.MINUTE);
+		assertTrue(minute instanceof TimeQuantity);
+		QuantityFactory<Temperature> temperatures = provider.getQuantityFactory(Temperature.class);
+		assertTrue(temperatures.create(20, TemperatureUnit.CELSIUS) instanceof TemperatureQuantity);
+		assertNull(provider.getQuantityFactory(Mass.class));
+	}
+}
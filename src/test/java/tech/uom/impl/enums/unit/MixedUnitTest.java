@@ -30,11 +30,14 @@
 package tech.uom.impl.enums.unit;
 
 import static  org.junit.jupiter.api.Assertions.assertEquals;
+import static  org.junit.jupiter.api.Assertions.assertSame;
+import static  org.junit.jupiter.api.Assertions.assertTrue;
 
 import static tech.uom.impl.enums.unit.DistanceUnit.*;
 import static tech.uom.impl.enums.unit.TimeUnit.*;
 
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Time;
 
@@ -55,6 +58,16 @@ public class MixedUnitTest {
   @Test
   public void testTime() {
     final Unit<Time> compTime =  new MixedUnit<>(HOUR, MINUTE).mix(SECOND);
-    assertEquals("h:m:s", compTime.toString());
+    assertEquals("h:min:s", compTime.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testConverter() {
+    final Unit<Time> compTime = new MixedUnit<>(HOUR, MINUTE);
+    final UnitConverter cvtr = compTime.getConverterTo(SECOND);
+    assertEquals(120d, cvtr.convert(2d));
+    assertSame(cvtr, compTime.getConverterTo(SECOND));
+    assertEquals(1d, compTime.getConverterTo(new MixedUnit<>(MINUTE, SECOND).mix(SECOND)).convert(1d / 60d), 1e-12);
+    assertTrue(compTime.isCompatible(SECOND));
+  }
+}
@@ -30,6 +30,7 @@
 package tech.uom.impl.enums.unit;
 
 import static  org.junit.jupiter.api.Assertions.assertEquals;
+import static  org.junit.jupiter.api.Assertions.assertSame;
 
 import static tech.uom.impl.enums.unit.TemperatureUnit.*;
 
@@ -53,4 +54,36 @@ public class TemperatureUnitTest {
 		assertEquals("FAHRENHEIT", t.toString());
 	}
 
+	@Test
+	public void testGetConverterTo() {
+		assertEquals(273.15d, CELSIUS.getConverterTo(KELVIN).convert(0d));
+		assertEquals(-273.15d, KELVIN.getConverterTo(CELSIUS).convert(0d));
+		assertEquals(212d, CELSIUS.getConverterTo(FAHRENHEIT).convert(100d));
+		assertEquals(100d, FAHRENHEIT.getConverterTo(CELSIUS).convert(212d));
+		assertEquals(-40d, FAHRENHEIT.getConverterTo(CELSIUS).convert(-40d));
+		// 98.6 has no exact binary representation
+		assertEquals(37d, FAHRENHEIT.getConverterTo(CELSIUS).convert(98.6d), Math.ulp(37d));
+		assertEquals(491.67d, CELSIUS.getConverterTo(RANKINE).convert(0d));
+		assertEquals(0d, RANKINE.getConverterTo(KELVIN).convert(0d));
+		assertSame(CELSIUS.getConverterTo(FAHRENHEIT), CELSIUS.getConverterTo(FAHRENHEIT));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (TemperatureUnit from : values()) {
+			for (TemperatureUnit to : values()) {
+				// each direction is rounded once, so a round trip may be off by a few ulps
+				assertEquals(42d, to.getConverterTo(from).convert(from.getConverterTo(to).convert(42d)), 1e-13);
+			}
+		}
+	}
+
+	@Test
+	public void testToKelvin() {
+		for (TemperatureUnit unit : values()) {
+			assertEquals(unit.getConverterTo(KELVIN).convert(21.5d), unit.toKelvin(21.5d));
+		}
+		assertEquals(273.15d, CELSIUS.toKelvin(0d));
+		assertEquals(373.15d, FAHRENHEIT.toKelvin(212d), 1e-12);
+	}
 }
@@ -30,6 +30,9 @@
 package tech.uom.impl.enums.unit;
 
 import static  org.junit.jupiter.api.Assertions.assertEquals;
+import static  org.junit.jupiter.api.Assertions.assertSame;
+import static  org.junit.jupiter.api.Assertions.assertThrows;
+import static  org.junit.jupiter.api.Assertions.assertTrue;
 
 import static javax.measure.MetricPrefix.MILLI;
 import static tech.uom.impl.enums.unit.TimeUnit.*;
@@ -63,6 +66,20 @@ public class TimeUnitTest {
 		assertEquals("SECOND", t.toString());
 	}
 	
+	@Test
+	public void testGetConverterTo() {
+		assertEquals(7200d, HOUR.getConverterTo(SECOND).convert(2d));
+		assertEquals(1.5d, SECOND.getConverterTo(MINUTE).convert(90d));
+		assertEquals(2500d, SECOND.getConverterTo(MILLISECOND).convert(2.5d));
+		assertTrue(MINUTE.getConverterTo(MINUTE).isIdentity());
+		assertSame(HOUR.getConverterTo(MINUTE), HOUR.getConverterTo(MINUTE));
+	}
+
+	@Test
+	public void testGetConverterToInverse() {
+		assertEquals(2d, SECOND.getConverterTo(HOUR).convert(HOUR.getConverterTo(SECOND).convert(2d)), 1e-12);
+	}
+
 	@Test
 	public void testPrefix() {
 		Unit<Time> t =  SECOND; // sec
@@ -70,4 +87,34 @@ public class TimeUnitTest {
 		assertEquals("ms", conv.getSymbol());
 		assertEquals(MILLISECOND, conv);
 	}
+
+	@Test
+	public void testToSeconds() {
+		for (TimeUnit unit : values()) {
+			assertEquals(unit.getConverterTo(SECOND).convert(2.5d), unit.toSeconds(2.5d));
+		}
+		assertEquals(7200d, HOUR.toSeconds(2d));
+		assertSame(TimeUnit.class, HOUR.getDeclaringClass());
+	}
+
+	@Test
+	public void testNewUnits() {
+		assertEquals(1.5e-6d, NANOSECOND.getConverterTo(MILLISECOND).convert(1.5d), 1e-20);
+		assertEquals(86_400_000_000L, ((tech.uom.impl.enums.function.RationalConverter) DAY.getConverterTo(MICROSECOND))
+				.convertExact(1L));
+		assertEquals(1e-6d, MICROSECOND.toSeconds(1d));
+		assertEquals(86_400_000_000_000L, DAY.toNanos(1L));
+	}
+
+	@Test
+	public void testBridges() {
+		for (TimeUnit unit : values()) {
+			assertSame(unit, of(unit.toTimeUnit()));
+			assertSame(unit, of(unit.toChronoUnit()));
+			assertEquals(unit.toTimeUnit().toNanos(1L), unit.toNanos(1L));
+			assertEquals(unit.toChronoUnit().getDuration().toNanos(), unit.toNanos(1L));
+		}
+		assertSame(HOUR, of(java.util.concurrent.TimeUnit.HOURS));
+		assertThrows(IllegalArgumentException.class, () -> of(java.time.temporal.ChronoUnit.WEEKS));
+	}
 }
@@ -0,0 +1,97 @@
+/*
+ * Units of Measurement Enum Implementation
+ * Copyright © 2005-2021, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Unit-API nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.uom.impl.enums.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Temperature;
+import javax.measure.quantity.Time;
+
+import org.junit.jupiter.api.Test;
+
+import tech.uom.impl.enums.StandardModel;
+import tech.uom.impl.enums.quantity.ShirtSize;
+
+/**
+ * @author Werner Keil
+ */
+public class UnitsTest {
+
+	private static final Units UNITS = Units.getInstance();
+
+	@Test
+	public void testGetUnitByType() {
+		assertSame(TimeUnit.SECOND, UNITS.getUnit(Time.class));
+		assertSame(DistanceUnit.METRE, UNITS.getUnit(Length.class));
+		assertSame(TemperatureUnit.KELVIN, UNITS.getUnit(Temperature.class));
+		assertSame(DimensionlessUnit.ONE, UNITS.getUnit(Dimensionless.class));
+		assertSame(ShirtSizeUnit.SML, UNITS.getUnit(ShirtSize.class));
+		assertNull(UNITS.getUnit(Mass.class));
+	}
+
+	@Test
+	public void testGetUnitBySymbol() {
+		assertSame(DistanceUnit.METRE, UNITS.getUnit("m"));
+		assertSame(TimeUnit.HOUR, UNITS.getUnit("h"));
+		assertSame(DistanceUnit.KILOMETRE, UNITS.getUnit("km"));
+		assertNull(UNITS.getUnit("parsec"));
+	}
+
+	@Test
+	public void testGetUnits() {
+		Set<? extends Unit<?>> units = UNITS.getUnits();
+		assertEquals(DistanceUnit.values().length + TimeUnit.values().length + TemperatureUnit.values().length
+				+ DimensionlessUnit.values().length + ShirtSizeUnit.values().length, units.size());
+		assertTrue(units.contains(TemperatureUnit.FAHRENHEIT));
+		assertSame(units, UNITS.getUnits());
+		assertThrows(UnsupportedOperationException.class, () -> units.clear());
+	}
+
+	@Test
+	public void testGetUnitsByDimension() {
+		assertEquals(UNITS.getUnits(), UNITS.getUnits(SimpleDimension.INSTANCE));
+		assertTrue(UNITS.getUnits(TemperatureUnit.KELVIN.getDimension()).contains(TimeUnit.SECOND));
+	}
+
+	@Test
+	public void testStandardModel() {
+		assertSame(TimeUnit.SECOND, StandardModel.getInstance().getUnit(Time.class));
+	}
+}